@@ -0,0 +1,169 @@
+package io.kestra.plugin.weaviate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchOutput;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@Schema(
+    title = "Aggregate a Weaviate class",
+    description = "Runs an Aggregate request so counts and statistics are computed by Weaviate, optionally per group and on filtered objects. Only the aggregated rows are returned, never the objects themselves."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Count questions and average their points per category.",
+            full = true,
+            code = """
+                id: weaviate_aggregate
+                namespace: company.team
+
+                tasks:
+                  - id: aggregate
+                    type: io.kestra.plugin.weaviate.Aggregate
+                    url: https://demo-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: Question
+                    groupBy: category
+                    metrics:
+                      points:
+                        - mean
+                        - maximum
+                      answer:
+                        - topOccurrences
+                    where:
+                      operator: GREATER_THAN
+                      path: points
+                      value: 100
+                    fetchType: FETCH
+                """
+        )
+    }
+)
+public class Aggregate extends WeaviateConnection implements RunnableTask<FetchOutput> {
+
+    @Schema(
+        title = "Class name to aggregate"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> className;
+
+    @Schema(
+        title = "Property to group objects by",
+        description = "Each row then holds a `groupedBy { path value }` block. Without it, the whole class is aggregated into one row."
+    )
+    @PluginProperty(group = "main")
+    private Property<String> groupBy;
+
+    @Schema(
+        title = "Aggregations to compute per property",
+        description = "A map of property name to aggregations, depending on the property type: `count`, `mean`, `median`, `mode`, `maximum`, `minimum` and `sum` for numbers; `count` and `topOccurrences` for text; `totalTrue`, `totalFalse`, `percentageTrue` and `percentageFalse` for booleans. `meta { count }` is always returned."
+    )
+    @PluginProperty(group = "main")
+    private Property<Map<String, List<String>>> metrics;
+
+    @Schema(
+        title = "Filter restricting the aggregated objects"
+    )
+    @PluginProperty(group = "processing")
+    private Property<Filter> where;
+
+    @Schema(
+        title = "Tenant to aggregate",
+        description = "Required for classes with multi-tenancy enabled."
+    )
+    @PluginProperty(group = "main")
+    private Property<String> tenant;
+
+    @Schema(
+        title = "Select fetch behavior",
+        description = "Defaults to STORE (writes all rows to Kestra storage as ION and returns the URI). FETCH returns all rows inline, FETCH_ONE returns the first row, NONE skips result materialization."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    protected Property<FetchType> fetchType = Property.ofValue(FetchType.STORE);
+
+    @Override
+    public FetchOutput run(RunContext runContext) throws Exception {
+        try (SharedClient.Lease lease = connect(runContext)) {
+            return run(runContext, lease.getClient());
+        }
+    }
+
+    private FetchOutput run(RunContext runContext, WeaviateClient client) throws Exception {
+        String renderedClassName = runContext.render(className).as(String.class).orElseThrow();
+        String renderedGroupBy = runContext.render(groupBy).as(String.class).orElse(null);
+
+        List<Field> fields = new ArrayList<>();
+        fields.add(Field.builder().name("meta").fields(new Field[] { Field.builder().name("count").build() }).build());
+        if (renderedGroupBy != null) {
+            fields.add(
+                Field.builder()
+                    .name("groupedBy")
+                    .fields(new Field[] { Field.builder().name("path").build(), Field.builder().name("value").build() })
+                    .build()
+            );
+        }
+        runContext.render(metrics).asMap(String.class, List.class).forEach((property, aggregations) -> fields.add(
+            Field.builder()
+                .name(property)
+                .fields(((List<?>) aggregations).stream().map(aggregation -> aggregationField(String.valueOf(aggregation))).toArray(Field[]::new))
+                .build()
+        ));
+
+        var aggregate = client.graphQL()
+            .aggregate()
+            .withClassName(renderedClassName)
+            .withFields(fields.toArray(Field[]::new));
+
+        if (renderedGroupBy != null) {
+            aggregate = aggregate.withGroupBy(renderedGroupBy);
+        }
+
+        if (where != null) {
+            aggregate = aggregate.withWhere(runContext.render(where).as(Filter.class).orElseThrow().toWhereFilter());
+        }
+
+        String renderedTenant = runContext.render(tenant).as(String.class).orElse(null);
+        if (renderedTenant != null) {
+            aggregate = aggregate.withTenant(renderedTenant);
+        }
+
+        List<Map<String, Object>> rows = WeaviateService.rows(aggregate.run(), "Aggregate", renderedClassName);
+
+        return WeaviateService.fetchOutput(runContext, runContext.render(fetchType).as(FetchType.class).orElseThrow(), rows);
+    }
+
+    private static Field aggregationField(String aggregation) {
+        if ("topOccurrences".equals(aggregation)) {
+            return Field.builder()
+                .name(aggregation)
+                .fields(new Field[] { Field.builder().name("value").build(), Field.builder().name("occurs").build() })
+                .build();
+        }
+
+        return Field.builder().name(aggregation).build();
+    }
+}
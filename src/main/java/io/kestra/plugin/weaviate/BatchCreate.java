@@ -1,36 +1,53 @@
 package io.kestra.plugin.weaviate;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
-import java.util.ArrayList;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
-import io.kestra.core.models.tasks.VoidOutput;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.weaviate.client.WeaviateClient;
-import io.weaviate.client.base.Result;
-import io.weaviate.client.base.WeaviateErrorMessage;
-import io.weaviate.client.v1.batch.api.ObjectsBatcher;
-import io.weaviate.client.v1.batch.model.ObjectGetResponse;
 import io.weaviate.client.v1.data.model.WeaviateObject;
 import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
 
@@ -41,7 +58,7 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
 @NoArgsConstructor
 @Schema(
     title = "Batch insert Weaviate objects",
-    description = "Loads multiple objects into a class from a Kestra ION file or an inline list. Each object gets a generated UUID. If the class is missing, Weaviate auto-schema (if enabled) will create it; otherwise the call fails."
+    description = "Loads multiple objects into a class from a Kestra ION file or an inline list. Each object gets a random UUID, or one derived from its properties with `idStrategy` so that re-runs overwrite instead of duplicating. Objects are streamed and sent in chunks of `batchSize`, so memory stays bounded by the chunk size rather than the file size. Rejected objects are retried individually, then reported in a dead-letter ION file. If the class is missing, Weaviate auto-schema (if enabled) will create it; otherwise the call fails."
 )
 @Plugin(
     examples = {
@@ -85,9 +102,22 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
                     objects: "{{ outputs.extract.uri }}"
                 """
         )
+    },
+    metrics = {
+        @Metric(name = "requests", type = Counter.TYPE, description = "Number of requests sent to Weaviate"),
+        @Metric(name = "request.errors", type = Counter.TYPE, description = "Number of requests Weaviate answered with an error"),
+        @Metric(name = "request.duration", type = Timer.TYPE, description = "Summed duration of the requests, with the slowest one in `request.duration.max` and their number in `request.duration.count`"),
+        @Metric(name = "objects.read", type = Counter.TYPE, description = "Number of objects read from the input"),
+        @Metric(name = "objects.created", type = Counter.TYPE, description = "Number of objects written"),
+        @Metric(name = "objects.retried", type = Counter.TYPE, description = "Number of object retries"),
+        @Metric(name = "objects.failed", type = Counter.TYPE, description = "Number of objects that could not be written"),
+        @Metric(name = "read.duration", type = Timer.TYPE, description = "Time spent reading the input"),
+        @Metric(name = "checkpoint.duration", type = Timer.TYPE, description = "Time spent saving checkpoints")
     }
 )
-public class BatchCreate extends WeaviateConnection implements RunnableTask<VoidOutput> {
+public class BatchCreate extends WeaviateConnection implements RunnableTask<BatchCreate.Output> {
+    private static final ObjectMapper CANONICAL_MAPPER = JacksonMapper.ofJson().copy()
+        .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
 
     @Schema(
         title = "Class name where you want to insert data"
@@ -107,58 +137,379 @@ public class BatchCreate extends WeaviateConnection implements RunnableTask<Void
     @PluginProperty(group = "main")
     private Object objects;
 
+    @Schema(
+        title = "Number of objects sent per batch request",
+        description = "Objects are read incrementally and flushed to Weaviate each time this many have been collected."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> batchSize = Property.ofValue(100);
+
+    @Schema(
+        title = "Maximum number of batch requests in flight",
+        description = "Chunks are sent concurrently up to this limit. Reading the input pauses while the limit is reached, so at most this many chunks are held in memory."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> concurrency = Property.ofValue(1);
+
+    @Schema(
+        title = "Maximum retries for rejected objects",
+        description = "Objects rejected by Weaviate are retried alone, not with their whole chunk. Objects still failing after this many retries are written to the `failedObjects` ION file instead of failing the task."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> maxRetries = Property.ofValue(3);
+
+    @Schema(
+        title = "Delay before the first retry",
+        description = "Doubled after each further attempt."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Duration> retryInitialDelay = Property.ofValue(Duration.ofSeconds(1));
+
+    @Schema(
+        title = "How object UUIDs are generated",
+        description = "RANDOM assigns a new UUID to every object, so re-running a load duplicates it. KEY_PROPERTIES derives a name-based UUID from the class name and the values of `idProperties`; CONTENT_HASH derives it from the class name and all properties. With a derived UUID, a re-run overwrites the objects already written instead of appending new ones."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<IdStrategy> idStrategy = Property.ofValue(IdStrategy.RANDOM);
+
+    @Schema(
+        title = "Properties identifying an object",
+        description = "Used with the KEY_PROPERTIES `idStrategy`. Every object must hold all of them."
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> idProperties;
+
+    @Schema(
+        title = "Field holding a precomputed vector",
+        description = "Name of the object field that contains the vector as a list of numbers. The field is removed from the object properties and sent as the object vector, so Weaviate skips server-side vectorization."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> vectorProperty;
+
+    @Schema(
+        title = "Fields holding precomputed named vectors",
+        description = "Map of named vector to the object field that contains it, for classes configured with several named vectors. The fields are removed from the object properties."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Map<String, String>> namedVectorProperties;
+
+    @Schema(
+        title = "Key storing the ingestion checkpoint",
+        description = "When set, the number of objects fully written so far is saved in the namespace KV store under this key after each chunk. A new run with the same key skips those objects and resumes from the checkpoint; the key is deleted once the load completes. The checkpoint never moves past a chunk holding objects rejected after all retries, so a resumed run sends them again instead of losing them. Objects must be read in the same order on every run."
+    )
+    @PluginProperty(group = "advanced")
+    private Property<String> checkpointKey;
+
+    @Schema(
+        title = "Tenant to insert into",
+        description = "Required for classes with multi-tenancy enabled."
+    )
+    @PluginProperty(group = "main")
+    private Property<String> tenant;
+
+    @Schema(
+        title = "Tenants to insert into",
+        description = "Loads the same objects into every listed tenant, `tenantConcurrency` tenants at a time. Takes precedence over `tenant`. With `checkpointKey`, each tenant keeps its own checkpoint, suffixed with the tenant name."
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> tenants;
+
+    @Schema(
+        title = "Maximum number of tenants loaded at the same time",
+        description = "Only applies to `tenants`. Each tenant load keeps up to `concurrency` batch requests in flight."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> tenantConcurrency = Property.ofValue(4);
+
     @Override
-    public VoidOutput run(RunContext runContext) throws Exception {
-        WeaviateClient client = connect(runContext);
-
-        List<WeaviateObject> weaviateObjects = new ArrayList<>();
-
-        if (objects instanceof List) {
-            weaviateObjects = ((List<Map<String, Object>>) objects).stream()
-                .map(
-                    throwFunction(
-                        param -> WeaviateObject.builder()
-                            .id(UUID.randomUUID().toString())
-                            .className(runContext.render(className).as(String.class).orElse(null))
-                            .properties(runContext.render(param))
-                            .build()
+    public BatchCreate.Output run(RunContext runContext) throws Exception {
+        try (SharedClient.Lease lease = connect(runContext)) {
+            return run(runContext, lease.getClient());
+        }
+    }
+
+    private BatchCreate.Output run(RunContext runContext, WeaviateClient client) throws Exception {
+        String renderedClassName = runContext.render(className).as(String.class).orElse(null);
+        int renderedBatchSize = runContext.render(batchSize).as(Integer.class).orElseThrow();
+        IdStrategy renderedIdStrategy = runContext.render(idStrategy).as(IdStrategy.class).orElseThrow();
+        List<String> renderedIdProperties = runContext.render(idProperties).asList(String.class);
+
+        if (renderedIdStrategy == IdStrategy.KEY_PROPERTIES && renderedIdProperties.isEmpty()) {
+            throw new IllegalArgumentException("`idProperties` must be set when `idStrategy` is KEY_PROPERTIES");
+        }
+
+        Function<Map<String, Object>, String> idGenerator = switch (renderedIdStrategy) {
+            case RANDOM -> properties -> UUID.randomUUID().toString();
+            case KEY_PROPERTIES -> properties -> nameBasedId(renderedClassName, keyValues(properties, renderedIdProperties));
+            case CONTENT_HASH -> properties -> nameBasedId(renderedClassName, properties);
+        };
+
+        String renderedVectorProperty = runContext.render(vectorProperty).as(String.class).orElse(null);
+        Map<String, String> renderedNamedVectorProperties = runContext.render(namedVectorProperties).asMap(String.class, String.class);
+
+        Function<String, Function<Map<String, Object>, WeaviateObject>> toObjectIn = objectTenant -> properties -> {
+            WeaviateObject.WeaviateObjectBuilder builder = WeaviateObject.builder()
+                .id(idGenerator.apply(properties))
+                .className(renderedClassName)
+                .tenant(objectTenant);
+
+            if (renderedVectorProperty == null && renderedNamedVectorProperties.isEmpty()) {
+                return builder.properties(properties).build();
+            }
+
+            Map<String, Object> objectProperties = new HashMap<>(properties);
+            if (renderedVectorProperty != null) {
+                builder.vector(Vectors.toVector(objectProperties.remove(renderedVectorProperty)));
+            }
+
+            if (!renderedNamedVectorProperties.isEmpty()) {
+                Map<String, Float[]> vectors = new HashMap<>();
+                renderedNamedVectorProperties.forEach((name, property) -> {
+                    Float[] vector = Vectors.toVector(objectProperties.remove(property));
+                    if (vector != null) {
+                        vectors.put(name, vector);
+                    }
+                });
+                builder.vectors(vectors);
+            }
+
+            return builder.properties(objectProperties).build();
+        };
+
+        String renderedCheckpointKey = runContext.render(checkpointKey).as(String.class).orElse(null);
+        List<String> renderedTenants = runContext.render(tenants).asList(String.class);
+        TaskMetrics metrics = new TaskMetrics(runContext, renderedClassName);
+
+        try {
+            return loadAll(runContext, client, metrics, renderedBatchSize, toObjectIn, renderedCheckpointKey, renderedTenants);
+        } finally {
+            metrics.emit();
+        }
+    }
+
+    private BatchCreate.Output loadAll(
+        RunContext runContext,
+        WeaviateClient client,
+        TaskMetrics metrics,
+        int renderedBatchSize,
+        Function<String, Function<Map<String, Object>, WeaviateObject>> toObjectIn,
+        String renderedCheckpointKey,
+        List<String> renderedTenants
+    ) throws Exception {
+        if (renderedTenants.isEmpty()) {
+            String renderedTenant = runContext.render(tenant).as(String.class).orElse(null);
+            BatchWriter.Summary summary = load(runContext, client, metrics, renderedBatchSize, toObjectIn.apply(renderedTenant), renderedCheckpointKey);
+
+            return Output.builder()
+                .createdCount(summary.getCreatedCount())
+                .retriedCount(summary.getRetriedCount())
+                .failedCount(summary.getFailedCount())
+                .failedObjects(summary.getFailedObjects())
+                .build();
+        }
+
+        Map<String, BatchWriter.Summary> summaries = new ConcurrentHashMap<>();
+        try (BoundedExecutor executor = new BoundedExecutor(runContext.render(tenantConcurrency).as(Integer.class).orElseThrow())) {
+            for (String renderedTenant : renderedTenants) {
+                executor.submit(() -> summaries.put(
+                    renderedTenant,
+                    load(
+                        runContext,
+                        client,
+                        metrics,
+                        renderedBatchSize,
+                        toObjectIn.apply(renderedTenant),
+                        renderedCheckpointKey == null ? null : renderedCheckpointKey + "_" + renderedTenant
                     )
-                ).toList();
-        } else if (objects instanceof String uri) {
-            try (
-                InputStream is = runContext.storage().getFile(URI.create(runContext.render(uri)))
-            ) {
-                weaviateObjects = FileSerde.readAll(is, Map.class)
-                    .map(
-                        throwFunction(
-                            map -> WeaviateObject.builder()
-                                .id(UUID.randomUUID().toString())
-                                .className(runContext.render(className).as(String.class).orElse(null))
-                                .properties(map)
-                                .build()
-                        )
-                    ).collectList().block();
+                ));
             }
+
+            executor.await();
+        }
+
+        return Output.builder()
+            .createdCount(summaries.values().stream().mapToLong(BatchWriter.Summary::getCreatedCount).sum())
+            .retriedCount(summaries.values().stream().mapToLong(BatchWriter.Summary::getRetriedCount).sum())
+            .failedCount(summaries.values().stream().mapToLong(BatchWriter.Summary::getFailedCount).sum())
+            .failedObjects(mergeFailedObjects(runContext, metrics, summaries.values()))
+            .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private BatchWriter.Summary load(
+        RunContext runContext,
+        WeaviateClient client,
+        TaskMetrics metrics,
+        int renderedBatchSize,
+        Function<Map<String, Object>, WeaviateObject> toObject,
+        String renderedCheckpointKey
+    ) throws Exception {
+        KVStore kvStore = renderedCheckpointKey == null ? null : runContext.namespaceKv(runContext.flowInfo().namespace());
+        long skipped = kvStore == null ? 0L : kvStore.getValue(renderedCheckpointKey)
+            .map(kvValue -> ((Number) kvValue.value()).longValue())
+            .orElse(0L);
+
+        if (skipped > 0) {
+            runContext.logger().info("Resuming from checkpoint '{}', skipping {} object(s) already loaded", renderedCheckpointKey, skipped);
         }
 
-        Result<ObjectGetResponse[]> result;
+        BatchWriter.Summary summary;
         try (
-            ObjectsBatcher objectsBatcher = client.batch()
-                .objectsBatcher()
+            BatchWriter writer = new BatchWriter(
+                runContext,
+                client,
+                metrics,
+                runContext.render(concurrency).as(Integer.class).orElseThrow(),
+                runContext.render(maxRetries).as(Integer.class).orElseThrow(),
+                runContext.render(retryInitialDelay).as(Duration.class).orElseThrow()
+            )
         ) {
-            result = objectsBatcher
-                .withObjects(weaviateObjects.toArray(WeaviateObject[]::new))
-                .run();
+            if (kvStore != null) {
+                writer.onCommit(committedCount -> {
+                    long start = System.nanoTime();
+                    kvStore.put(
+                        renderedCheckpointKey,
+                        new KVValueAndMetadata(new KVMetadata("Weaviate BatchCreate checkpoint", (Duration) null), skipped + committedCount)
+                    );
+                    metrics.time("checkpoint.duration", start);
+                });
+            }
+
+            if (objects instanceof List) {
+                load(
+                    writer,
+                    Flux.fromIterable((List<Map<String, Object>>) objects).skip(skipped).map(throwFunction(param -> runContext.render(param))),
+                    renderedBatchSize,
+                    toObject,
+                    metrics
+                );
+            } else if (objects instanceof String uri) {
+                try (
+                    InputStream is = runContext.storage().getFile(URI.create(runContext.render(uri)))
+                ) {
+                    load(
+                        writer,
+                        FileSerde.readAll(is, Map.class).skip(skipped).map(map -> (Map<String, Object>) map),
+                        renderedBatchSize,
+                        toObject,
+                        metrics
+                    );
+                }
+            }
+
+            summary = writer.finish();
+        }
+
+        if (kvStore != null) {
+            kvStore.delete(renderedCheckpointKey);
+        }
+
+        return summary;
+    }
+
+    /**
+     * Concatenates the dead-letter files of several tenant loads into one, ION rows being self-delimited.
+     */
+    private static URI mergeFailedObjects(RunContext runContext, TaskMetrics metrics, Collection<BatchWriter.Summary> summaries) throws IOException {
+        List<URI> uris = summaries.stream().map(BatchWriter.Summary::getFailedObjects).filter(Objects::nonNull).toList();
+        if (uris.size() <= 1) {
+            return uris.isEmpty() ? null : uris.getFirst();
         }
 
-        if (result.hasErrors()) {
-            String message = result.getError().getMessages().stream()
-                .map(WeaviateErrorMessage::getMessage)
-                .collect(Collectors.joining(", "));
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        try (OutputStream output = new FileOutputStream(tempFile)) {
+            for (URI uri : uris) {
+                try (InputStream is = runContext.storage().getFile(uri)) {
+                    is.transferTo(output);
+                }
+            }
+        }
+
+        return metrics.putFile(tempFile);
+    }
+
+    private void load(BatchWriter writer, Flux<Map<String, Object>> source, int batchSize, Function<Map<String, Object>, WeaviateObject> toObject, TaskMetrics metrics) throws Exception {
+        Iterator<List<Map<String, Object>>> chunks = source.buffer(batchSize).toIterable(1).iterator();
+
+        while (true) {
+            // reading and parsing the next chunk, apart from the time spent waiting for a free writer slot
+            long start = System.nanoTime();
+            if (!chunks.hasNext()) {
+                break;
+            }
+            List<Map<String, Object>> chunk = chunks.next();
+            metrics.time("read.duration", start);
+            metrics.count("objects.read", chunk.size());
+
+            writer.write(chunk.stream().map(toObject).toList());
+        }
+    }
+
+    private static Map<String, Object> keyValues(Map<String, Object> properties, List<String> keys) {
+        Map<String, Object> values = new HashMap<>();
+        for (String key : keys) {
+            if (!properties.containsKey(key)) {
+                throw new IllegalArgumentException("Object is missing the id property '" + key + "': " + properties);
+            }
+
+            values.put(key, properties.get(key));
+        }
 
-            throw new IOException(message);
+        return values;
+    }
+
+    private static String nameBasedId(String className, Map<String, Object> values) {
+        try {
+            String name = className + ":" + CANONICAL_MAPPER.writeValueAsString(values);
+
+            return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to derive an id from " + values, e);
         }
+    }
+
+    public enum IdStrategy {
+        RANDOM,
+        KEY_PROPERTIES,
+        CONTENT_HASH
+    }
+
+    @Getter
+    @Builder
+    public static class Output implements io.kestra.core.models.tasks.Output {
 
-        return null;
+        @Schema(
+            title = "Number of objects written"
+        )
+        private long createdCount;
+
+        @Schema(
+            title = "Number of object retries",
+            description = "Each retry of a rejected object counts once."
+        )
+        private long retriedCount;
+
+        @Schema(
+            title = "Number of objects rejected after all retries"
+        )
+        private long failedCount;
+
+        @Schema(
+            title = "URI of the ION file holding rejected objects",
+            description = "Each row holds the object `id`, `className`, `tenant` (for multi-tenant classes), `properties` and the last `error`. Only set when at least one object failed."
+        )
+        private URI failedObjects;
     }
 }
@@ -0,0 +1,266 @@
+package io.kestra.plugin.weaviate;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.v1.filters.WhereFilter;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@Schema(
+    title = "Run many vector searches in one task",
+    description = "Reads an ION file of query vectors and runs one nearVector search per row over a single shared client, with bounded concurrency. Hits are streamed to one ION output, each tagged with the key of the row that produced it."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Find the three nearest questions of every embedding produced by an upstream task.",
+            full = true,
+            code = """
+                id: weaviate_batch_search
+                namespace: company.team
+
+                tasks:
+                  - id: batch_search
+                    type: io.kestra.plugin.weaviate.BatchSearch
+                    url: https://demo-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: Question
+                    from: "{{ outputs.embed.uri }}"
+                    keyField: documentId
+                    vectorField: embedding
+                    properties:
+                      - question
+                    limit: 3
+                    concurrency: 8
+                """
+        )
+    }
+)
+public class BatchSearch extends WeaviateConnection implements RunnableTask<BatchSearch.Output> {
+
+    @Schema(
+        title = "Class name to search"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> className;
+
+    @Schema(
+        title = "Kestra storage URI of the ION file holding one query vector per row"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> from;
+
+    @Schema(
+        title = "Row field identifying each query",
+        description = "Copied to the `key` of every hit of that query. Defaults to the row position when the field is missing."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<String> keyField = Property.ofValue("key");
+
+    @Schema(
+        title = "Row field holding the query vector"
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<String> vectorField = Property.ofValue("vector");
+
+    @Schema(
+        title = "Properties to return"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> properties;
+
+    @Schema(
+        title = "Additional fields to return",
+        description = "Fields of the `_additional` block such as `id`, `distance`, `certainty` or `vector`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<List<String>> additionalFields = Property.ofValue(List.of("id", "distance"));
+
+    @Schema(
+        title = "Named vector to search",
+        description = "For classes configured with several named vectors."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> targetVector;
+
+    @Schema(
+        title = "Maximum number of hits per query"
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> limit = Property.ofValue(10);
+
+    @Schema(
+        title = "Maximum vector distance of the hits"
+    )
+    @PluginProperty(group = "processing")
+    private Property<Double> distance;
+
+    @Schema(
+        title = "Filter applied before each search"
+    )
+    @PluginProperty(group = "processing")
+    private Property<Filter> where;
+
+    @Schema(
+        title = "Tenant to search",
+        description = "Required for classes with multi-tenancy enabled."
+    )
+    @PluginProperty(group = "main")
+    private Property<String> tenant;
+
+    @Schema(
+        title = "Number of searches in flight at the same time"
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> concurrency = Property.ofValue(4);
+
+    @Override
+    public BatchSearch.Output run(RunContext runContext) throws Exception {
+        try (SharedClient.Lease lease = connect(runContext)) {
+            return run(runContext, lease.getClient());
+        }
+    }
+
+    private BatchSearch.Output run(RunContext runContext, WeaviateClient client) throws Exception {
+        String renderedClassName = runContext.render(className).as(String.class).orElseThrow();
+        String renderedKeyField = runContext.render(keyField).as(String.class).orElseThrow();
+        String renderedVectorField = runContext.render(vectorField).as(String.class).orElseThrow();
+        int renderedLimit = runContext.render(limit).as(Integer.class).orElseThrow();
+        Float renderedDistance = runContext.render(distance).as(Double.class).map(Double::floatValue).orElse(null);
+        String[] renderedTargetVectors = runContext.render(targetVector).as(String.class).map(name -> new String[] { name }).orElse(null);
+        String renderedTenant = runContext.render(tenant).as(String.class).orElse(null);
+        WhereFilter whereFilter = where == null ? null : runContext.render(where).as(Filter.class).orElseThrow().toWhereFilter();
+        Field[] fields = WeaviateService.fields(
+            runContext.render(properties).asList(String.class),
+            runContext.render(additionalFields).asList(String.class)
+        );
+
+        AtomicLong searchCount = new AtomicLong();
+        AtomicLong hitCount = new AtomicLong();
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        try (
+            OutputStream output = new FileOutputStream(tempFile);
+            InputStream is = runContext.storage().getFile(URI.create(runContext.render(from).as(String.class).orElseThrow()));
+            BoundedExecutor executor = new BoundedExecutor(runContext.render(concurrency).as(Integer.class).orElseThrow())
+        ) {
+            long position = 0;
+            for (Object item : FileSerde.readAll(is, Map.class).toIterable(1)) {
+                Map<?, ?> row = (Map<?, ?>) item;
+                Object key = row.containsKey(renderedKeyField) ? row.get(renderedKeyField) : position;
+                Float[] queryVector = Vectors.toVector(row.get(renderedVectorField));
+                if (queryVector == null) {
+                    throw new IllegalArgumentException("Row " + position + " has no vector in field '" + renderedVectorField + "'");
+                }
+                position++;
+
+                executor.submit(() -> {
+                    var get = client.graphQL()
+                        .get()
+                        .withClassName(renderedClassName)
+                        .withFields(fields)
+                        .withLimit(renderedLimit)
+                        .withNearVector(
+                            NearVectorArgument.builder()
+                                .vector(queryVector)
+                                .distance(renderedDistance)
+                                .targetVectors(renderedTargetVectors)
+                                .build()
+                        );
+
+                    if (whereFilter != null) {
+                        get = get.withWhere(whereFilter);
+                    }
+
+                    if (renderedTenant != null) {
+                        get = get.withTenant(renderedTenant);
+                    }
+
+                    List<Map<String, Object>> hits = WeaviateService.rows(get.run(), "Get", renderedClassName);
+
+                    synchronized (output) {
+                        int rank = 0;
+                        for (Map<String, Object> hit : hits) {
+                            Map<String, Object> result = new LinkedHashMap<>();
+                            result.put("key", key);
+                            result.put("rank", rank++);
+                            result.put("hit", hit);
+                            FileSerde.write(output, result);
+                        }
+                    }
+
+                    searchCount.incrementAndGet();
+                    hitCount.addAndGet(hits.size());
+                });
+            }
+
+            executor.await();
+        }
+
+        runContext.logger().info("Ran {} searches on class '{}', found {} hits", searchCount.get(), renderedClassName, hitCount.get());
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .searchCount(searchCount.get())
+            .hitCount(hitCount.get())
+            .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Output implements io.kestra.core.models.tasks.Output {
+
+        @Schema(
+            title = "URI of the ION file holding the hits",
+            description = "One row per hit with the query `key`, the hit `rank` (0 is the nearest) and the `hit` itself."
+        )
+        private URI uri;
+
+        @Schema(
+            title = "Number of searches run"
+        )
+        private long searchCount;
+
+        @Schema(
+            title = "Total number of hits"
+        )
+        private long hitCount;
+    }
+}
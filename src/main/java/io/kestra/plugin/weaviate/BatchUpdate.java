@@ -0,0 +1,294 @@
+package io.kestra.plugin.weaviate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
+@SuperBuilder
+@ToString
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@Schema(
+    title = "Partially update Weaviate objects",
+    description = "Merges the given properties into existing objects (PATCH), leaving every other property and the vector untouched. Objects are read from a Kestra ION file or an inline list, each holding the object ID and only the properties to change, and updated with bounded concurrency."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Update the status of a few known objects.",
+            full = true,
+            code = """
+                id: weaviate_batch_update
+                namespace: company.team
+
+                tasks:
+                  - id: batch_update
+                    type: io.kestra.plugin.weaviate.BatchUpdate
+                    url: https://demo-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: Article
+                    objects:
+                      - id: 36ddd591-2dee-4e7e-a3cc-eb86d30a4303
+                        status: archived
+                      - id: 3f2f0d6c-1c3c-4bd7-9e0f-6a0b7b4f5a21
+                        status: published
+                """
+        ),
+        @Example(
+            title = "Apply incremental changes from an upstream ION file, creating the objects that do not exist yet.",
+            full = true,
+            code = """
+                id: weaviate_incremental_sync
+                namespace: company.team
+
+                tasks:
+                  - id: batch_update
+                    type: io.kestra.plugin.weaviate.BatchUpdate
+                    url: https://demo-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: Article
+                    objects: "{{ outputs.changes.uri }}"
+                    idProperty: uuid
+                    upsert: true
+                    concurrency: 16
+                """
+        )
+    }
+)
+public class BatchUpdate extends WeaviateConnection implements RunnableTask<BatchUpdate.Output> {
+
+    @Schema(
+        title = "Class name of the objects to update"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> className;
+
+    @Schema(
+        title = "Partial objects to merge",
+        description = "Either a Kestra storage URI to an ION file or an inline list of maps. Each entry holds the object ID in `idProperty` and the properties to change.",
+        anyOf = {
+            String.class,
+            Map[].class
+        }
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Object objects;
+
+    @Schema(
+        title = "Field holding the object ID",
+        description = "Removed from the properties sent to Weaviate."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<String> idProperty = Property.ofValue("id");
+
+    @Schema(
+        title = "Field holding a precomputed vector",
+        description = "When an entry holds this field, its value replaces the object vector and is removed from the properties. Otherwise the vector is left to Weaviate, which only re-vectorizes when a vectorized property changed."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> vectorProperty;
+
+    @Schema(
+        title = "Tenant to update",
+        description = "Required for classes with multi-tenancy enabled."
+    )
+    @PluginProperty(group = "main")
+    private Property<String> tenant;
+
+    @Schema(
+        title = "Create missing objects",
+        description = "When true, an object that does not exist is created with the given properties and ID instead of being counted as missing."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> upsert = Property.ofValue(false);
+
+    @Schema(
+        title = "Number of update requests in flight at the same time",
+        description = "Weaviate has no batch PATCH endpoint, so every object is one request."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> concurrency = Property.ofValue(8);
+
+    @Override
+    public BatchUpdate.Output run(RunContext runContext) throws Exception {
+        try (SharedClient.Lease lease = connect(runContext)) {
+            return run(runContext, lease.getClient());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private BatchUpdate.Output run(RunContext runContext, WeaviateClient client) throws Exception {
+        String renderedClassName = runContext.render(className).as(String.class).orElseThrow();
+        String renderedIdProperty = runContext.render(idProperty).as(String.class).orElseThrow();
+        String renderedVectorProperty = runContext.render(vectorProperty).as(String.class).orElse(null);
+        boolean renderedUpsert = runContext.render(upsert).as(Boolean.class).orElseThrow();
+        String renderedTenant = runContext.render(tenant).as(String.class).orElse(null);
+
+        Counts counts = new Counts();
+        try (BoundedExecutor executor = new BoundedExecutor(runContext.render(concurrency).as(Integer.class).orElseThrow())) {
+            if (objects instanceof List) {
+                submitAll(
+                    Flux.fromIterable((List<Map<String, Object>>) objects).map(throwFunction(param -> runContext.render(param))),
+                    executor,
+                    entry -> update(client, renderedClassName, renderedTenant, renderedIdProperty, renderedVectorProperty, renderedUpsert, entry, counts)
+                );
+            } else if (objects instanceof String uri) {
+                try (InputStream is = runContext.storage().getFile(URI.create(runContext.render(uri)))) {
+                    submitAll(
+                        FileSerde.readAll(is, Map.class).map(map -> (Map<String, Object>) map),
+                        executor,
+                        entry -> update(client, renderedClassName, renderedTenant, renderedIdProperty, renderedVectorProperty, renderedUpsert, entry, counts)
+                    );
+                }
+            }
+
+            executor.await();
+        }
+
+        if (counts.missingCount.get() > 0) {
+            runContext.logger().warn("{} object(s) to update do not exist in class '{}'", counts.missingCount.get(), renderedClassName);
+        }
+
+        return Output.builder()
+            .updatedCount(counts.updatedCount.get())
+            .createdCount(counts.createdCount.get())
+            .missingCount(counts.missingCount.get())
+            .build();
+    }
+
+    private void submitAll(Flux<Map<String, Object>> entries, BoundedExecutor executor, EntryUpdater updater) throws Exception {
+        for (Map<String, Object> entry : entries.toIterable(1)) {
+            executor.submit(() -> updater.update(entry));
+        }
+    }
+
+    private void update(WeaviateClient client, String className, String tenant, String idProperty, String vectorProperty, boolean upsert, Map<String, Object> entry, Counts counts) throws IOException {
+        Map<String, Object> properties = new HashMap<>(entry);
+        Object id = properties.remove(idProperty);
+        if (id == null) {
+            throw new IllegalArgumentException("Object is missing the id property '" + idProperty + "': " + entry);
+        }
+        Float[] vector = vectorProperty == null ? null : Vectors.toVector(properties.remove(vectorProperty));
+
+        var updater = client.data()
+            .updater()
+            .withMerge()
+            .withClassName(className)
+            .withID(id.toString())
+            .withProperties(properties);
+
+        if (vector != null) {
+            updater = updater.withVector(vector);
+        }
+
+        if (tenant != null) {
+            updater = updater.withTenant(tenant);
+        }
+
+        Result<Boolean> result = updater.run();
+        if (!result.hasErrors()) {
+            counts.updatedCount.incrementAndGet();
+            return;
+        }
+
+        if (result.getError().getStatusCode() != 404) {
+            throw new IOException("Failed to update object " + id + ": " + message(result));
+        }
+
+        if (!upsert) {
+            counts.missingCount.incrementAndGet();
+            return;
+        }
+
+        var creator = client.data()
+            .creator()
+            .withClassName(className)
+            .withID(id.toString())
+            .withProperties(properties);
+
+        if (vector != null) {
+            creator = creator.withVector(vector);
+        }
+
+        if (tenant != null) {
+            creator = creator.withTenant(tenant);
+        }
+
+        var created = creator.run();
+        if (created.hasErrors()) {
+            throw new IOException("Failed to create object " + id + ": " + message(created));
+        }
+
+        counts.createdCount.incrementAndGet();
+    }
+
+    private static String message(Result<?> result) {
+        return result.getError().getMessages().stream()
+            .map(WeaviateErrorMessage::getMessage)
+            .collect(Collectors.joining(", "));
+    }
+
+    @FunctionalInterface
+    private interface EntryUpdater {
+        void update(Map<String, Object> entry) throws Exception;
+    }
+
+    private static final class Counts {
+        private final AtomicLong updatedCount = new AtomicLong();
+        private final AtomicLong createdCount = new AtomicLong();
+        private final AtomicLong missingCount = new AtomicLong();
+    }
+
+    @Getter
+    @Builder
+    public static class Output implements io.kestra.core.models.tasks.Output {
+
+        @Schema(
+            title = "Number of objects updated"
+        )
+        private long updatedCount;
+
+        @Schema(
+            title = "Number of missing objects created by `upsert`"
+        )
+        private long createdCount;
+
+        @Schema(
+            title = "Number of objects that did not exist and were skipped"
+        )
+        private long missingCount;
+    }
+}
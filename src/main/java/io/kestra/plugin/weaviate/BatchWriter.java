@@ -0,0 +1,249 @@
+package io.kestra.plugin.weaviate;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.v1.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Sends chunks of objects to Weaviate with bounded concurrency.
+ * <p>
+ * Each chunk result is inspected object by object: rejected objects are retried alone with exponential backoff,
+ * and the ones still failing after {@code maxRetries} attempts are appended to a dead-letter ION file.
+ * A request-level error that survives every retry aborts the whole load.
+ * Request latencies and object counts are added to the given {@link TaskMetrics}, which the caller emits.
+ */
+final class BatchWriter implements AutoCloseable {
+    private static final int DEAD_LETTERED = -1;
+
+    private final RunContext runContext;
+    private final WeaviateClient client;
+    private final TaskMetrics metrics;
+    private final BoundedExecutor executor;
+    private final int maxRetries;
+    private final Duration retryInitialDelay;
+
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private File deadLetterFile;
+    private OutputStream deadLetterOutput;
+
+    private long nextSequence;
+    private long committedSequence;
+    private long committedCount;
+    private final Map<Long, Integer> completedChunks = new HashMap<>();
+    private CommitListener commitListener;
+
+    BatchWriter(RunContext runContext, WeaviateClient client, TaskMetrics metrics, int concurrency, int maxRetries, Duration retryInitialDelay) {
+        this.runContext = runContext;
+        this.client = client;
+        this.metrics = metrics;
+        this.executor = new BoundedExecutor(concurrency);
+        this.maxRetries = maxRetries;
+        this.retryInitialDelay = retryInitialDelay;
+    }
+
+    /**
+     * Registers a listener called each time the prefix of fully written chunks grows,
+     * with the total number of objects in that prefix. Calls are made one at a time and in order.
+     * <p>
+     * A chunk with dead-lettered objects ends the prefix for good: its objects are only listed in a file
+     * uploaded by {@link #finish()}, so if the run dies before, a resumed run must send them again.
+     */
+    BatchWriter onCommit(CommitListener commitListener) {
+        this.commitListener = commitListener;
+        return this;
+    }
+
+    void write(List<WeaviateObject> chunk) throws Exception {
+        long sequence = nextSequence++;
+
+        executor.submit(() -> {
+            boolean written = send(chunk);
+            complete(sequence, written ? chunk.size() : DEAD_LETTERED);
+        });
+    }
+
+    /**
+     * Waits for every chunk to be written and uploads the dead-letter file, if any object failed.
+     */
+    Summary finish() throws Exception {
+        executor.await();
+
+        URI failedObjects = null;
+        synchronized (this) {
+            if (deadLetterOutput != null) {
+                deadLetterOutput.close();
+                deadLetterOutput = null;
+                failedObjects = metrics.putFile(deadLetterFile);
+            }
+        }
+
+        if (failedCount.get() > 0) {
+            runContext.logger().warn("{} object(s) were rejected by Weaviate after {} retries", failedCount.get(), maxRetries);
+        }
+
+        return Summary.builder()
+            .createdCount(createdCount.get())
+            .retriedCount(retriedCount.get())
+            .failedCount(failedCount.get())
+            .failedObjects(failedObjects)
+            .build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.close();
+
+        synchronized (this) {
+            if (deadLetterOutput != null) {
+                deadLetterOutput.close();
+            }
+        }
+    }
+
+    /**
+     * Returns false when some objects of the chunk were dead-lettered.
+     */
+    private boolean send(List<WeaviateObject> chunk) throws Exception {
+        List<WeaviateObject> pending = chunk;
+
+        for (int attempt = 0;; attempt++) {
+            Map<WeaviateObject, String> rejected = new IdentityHashMap<>();
+            Result<ObjectGetResponse[]> result;
+            try (
+                ObjectsBatcher objectsBatcher = client.batch()
+                    .objectsBatcher()
+            ) {
+                WeaviateObject[] batch = pending.toArray(WeaviateObject[]::new);
+                result = metrics.request(() -> objectsBatcher.withObjects(batch).run());
+            }
+            metrics.count("objects.sent", pending.size());
+
+            if (result.hasErrors()) {
+                String message = result.getError().getMessages().stream()
+                    .map(WeaviateErrorMessage::getMessage)
+                    .collect(Collectors.joining(", "));
+
+                if (attempt >= maxRetries) {
+                    throw new IOException(message);
+                }
+
+                pending.forEach(object -> rejected.put(object, message));
+            } else {
+                ObjectGetResponse[] responses = result.getResult();
+                // responses are returned in the same order as the objects of the request
+                for (int i = 0; i < pending.size() && responses != null && i < responses.length; i++) {
+                    String error = objectError(responses[i]);
+                    if (error != null) {
+                        rejected.put(pending.get(i), error);
+                    }
+                }
+            }
+
+            createdCount.addAndGet(pending.size() - rejected.size());
+            metrics.count("objects.created", pending.size() - rejected.size());
+
+            if (rejected.isEmpty()) {
+                return true;
+            }
+
+            if (attempt >= maxRetries) {
+                deadLetter(rejected);
+                return false;
+            }
+
+            retriedCount.addAndGet(rejected.size());
+            metrics.count("objects.retried", rejected.size());
+            Thread.sleep(retryInitialDelay.multipliedBy(1L << Math.min(attempt, 16)).toMillis());
+
+            pending = pending.stream()
+                .filter(rejected::containsKey)
+                .toList();
+        }
+    }
+
+    private synchronized void complete(long sequence, int size) throws Exception {
+        completedChunks.put(sequence, size);
+
+        long previous = committedCount;
+        while (completedChunks.getOrDefault(committedSequence, DEAD_LETTERED) != DEAD_LETTERED) {
+            committedCount += completedChunks.remove(committedSequence++);
+        }
+
+        if (commitListener != null && committedCount != previous) {
+            commitListener.commit(committedCount);
+        }
+    }
+
+    private synchronized void deadLetter(Map<WeaviateObject, String> rejected) throws IOException {
+        if (deadLetterOutput == null) {
+            deadLetterFile = runContext.workingDir().createTempFile(".ion").toFile();
+            deadLetterOutput = new FileOutputStream(deadLetterFile);
+        }
+
+        for (Map.Entry<WeaviateObject, String> entry : rejected.entrySet()) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", entry.getKey().getId());
+            row.put("className", entry.getKey().getClassName());
+            if (entry.getKey().getTenant() != null) {
+                row.put("tenant", entry.getKey().getTenant());
+            }
+            row.put("properties", entry.getKey().getProperties());
+            row.put("error", entry.getValue());
+
+            FileSerde.write(deadLetterOutput, row);
+        }
+
+        failedCount.addAndGet(rejected.size());
+        metrics.count("objects.failed", rejected.size());
+    }
+
+    private static String objectError(ObjectGetResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getErrors() == null || response.getResult().getErrors().getError() == null) {
+            return null;
+        }
+
+        List<String> messages = new ArrayList<>();
+        response.getResult().getErrors().getError().forEach(error -> messages.add(error.getMessage()));
+
+        return messages.isEmpty() ? null : String.join(", ", messages);
+    }
+
+    @FunctionalInterface
+    interface CommitListener {
+        void commit(long committedCount) throws Exception;
+    }
+
+    @Getter
+    @Builder
+    static class Summary {
+        private final long createdCount;
+        private final long retriedCount;
+        private final long failedCount;
+        private final URI failedObjects;
+    }
+}
@@ -0,0 +1,93 @@
+package io.kestra.plugin.weaviate;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs jobs on virtual threads with at most {@code maxInFlight} of them running at the same time.
+ * <p>
+ * {@link #submit(Job)} blocks the caller while all slots are taken, so a producer reading its input
+ * can never get more than {@code maxInFlight} jobs ahead of the workers.
+ * The first failure is kept and rethrown on the next {@link #submit(Job)} or on {@link #await()}.
+ */
+final class BoundedExecutor implements AutoCloseable {
+    // a job blocked in an HTTP request only stops at the client read timeout, 60 seconds by default
+    private static final Duration TERMINATION_TIMEOUT = Duration.ofSeconds(90);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final Semaphore permits;
+    private final int maxInFlight;
+
+    BoundedExecutor(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1, got " + maxInFlight);
+        }
+
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    void submit(Job job) throws Exception {
+        rethrowFailure();
+        permits.acquire();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    job.run();
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for every submitted job to finish, then rethrows the first failure if any.
+     */
+    void await() throws Exception {
+        permits.acquire(maxInFlight);
+        permits.release(maxInFlight);
+        rethrowFailure();
+    }
+
+    /**
+     * Interrupts the running jobs and waits, up to {@link #TERMINATION_TIMEOUT}, for them to stop, so that on failure
+     * no request outlives the task and what the jobs write to is not closed under them.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+
+        try {
+            executor.awaitTermination(TERMINATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void rethrowFailure() throws Exception {
+        Throwable throwable = failure.get();
+        if (throwable instanceof Exception exception) {
+            throw exception;
+        } else if (throwable instanceof Error error) {
+            throw error;
+        }
+    }
+
+    @FunctionalInterface
+    interface Job {
+        void run() throws Exception;
+    }
+}
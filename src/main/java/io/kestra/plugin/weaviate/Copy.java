@@ -0,0 +1,408 @@
+package io.kestra.plugin.weaviate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.weaviate.client.Config;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import io.weaviate.client.v1.schema.model.WeaviateClass;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
+
+@SuperBuilder
+@ToString
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@Schema(
+    title = "Copy the objects of a Weaviate class",
+    description = "Streams every object of a class, with its ID and vector, into another class of the same or another cluster. Source pages are read with the cursor API while earlier pages are written with concurrent batch requests, so memory stays bounded by `pageSize` times `concurrency` and nothing is re-vectorized. The target class must exist, or be creatable by auto-schema. Cross-reference properties are not copied."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Reindex a class into a new class with different index settings.",
+            full = true,
+            code = """
+                id: weaviate_reindex
+                namespace: company.team
+
+                tasks:
+                  - id: copy
+                    type: io.kestra.plugin.weaviate.Copy
+                    url: https://demo-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: Question
+                    target:
+                      className: QuestionV2
+                """
+        ),
+        @Example(
+            title = "Promote a class from a staging cluster to a production cluster.",
+            full = true,
+            code = """
+                id: weaviate_promote
+                namespace: company.team
+
+                tasks:
+                  - id: copy
+                    type: io.kestra.plugin.weaviate.Copy
+                    url: https://staging-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_STAGING_API_KEY') }}"
+                    className: Question
+                    target:
+                      url: https://prod-cluster-id.weaviate.network
+                      apiKey: "{{ secret('WEAVIATE_PROD_API_KEY') }}"
+                    concurrency: 4
+                """
+        )
+    },
+    metrics = {
+        @Metric(name = "requests", type = Counter.TYPE, description = "Number of requests sent to Weaviate"),
+        @Metric(name = "request.errors", type = Counter.TYPE, description = "Number of requests Weaviate answered with an error"),
+        @Metric(name = "request.duration", type = Timer.TYPE, description = "Summed duration of the requests, with the slowest one in `request.duration.max` and their number in `request.duration.count`"),
+        @Metric(name = "objects.read", type = Counter.TYPE, description = "Number of objects read from the source"),
+        @Metric(name = "objects.created", type = Counter.TYPE, description = "Number of objects written to the target"),
+        @Metric(name = "objects.failed", type = Counter.TYPE, description = "Number of objects that could not be written")
+    }
+)
+public class Copy extends WeaviateConnection implements RunnableTask<Copy.Output> {
+
+    @Schema(
+        title = "Class name to copy"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> className;
+
+    @Schema(
+        title = "Where to copy the objects",
+        description = "Any field left empty falls back to the source: same cluster, credentials or class name."
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Target target;
+
+    @Schema(
+        title = "Tenant to copy from",
+        description = "Required for classes with multi-tenancy enabled."
+    )
+    @PluginProperty(group = "main")
+    private Property<String> tenant;
+
+    @Schema(
+        title = "Properties to copy",
+        description = "Defaults to every non-reference property of the source class schema. Geo coordinates, phone numbers and nested objects are copied whole."
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> properties;
+
+    @Schema(
+        title = "Number of objects read per source page and written per batch request"
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> pageSize = Property.ofValue(100);
+
+    @Schema(
+        title = "Maximum number of batch requests in flight on the target",
+        description = "Reading the source pauses while the limit is reached."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> concurrency = Property.ofValue(2);
+
+    @Schema(
+        title = "Maximum retries for rejected objects",
+        description = "Objects still failing after this many retries are written to the `failedObjects` ION file instead of failing the task."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> maxRetries = Property.ofValue(3);
+
+    @Schema(
+        title = "Delay before the first retry",
+        description = "Doubled after each further attempt."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Duration> retryInitialDelay = Property.ofValue(Duration.ofSeconds(1));
+
+    @Override
+    public Copy.Output run(RunContext runContext) throws Exception {
+        TargetConnection connection = targetConnection(runContext);
+
+        try (
+            SharedClient.Lease sourceLease = connect(runContext);
+            SharedClient.Lease targetLease = connect(runContext, connection.url(), connection.apiKey(), connection.headers(), connection.grpcHost())
+        ) {
+            return run(runContext, sourceLease.getClient(), targetLease.getClient(), !connection.url().equals(runContext.render(getUrl())));
+        }
+    }
+
+    /**
+     * Builds the client configuration of the target without connecting.
+     */
+    Config targetConfig(RunContext runContext) throws IllegalVariableEvaluationException {
+        TargetConnection connection = targetConnection(runContext);
+
+        return config(runContext, connection.url(), connection.apiKey(), connection.headers(), connection.grpcHost());
+    }
+
+    // each target setting falls back to the source one on its own, e.g. a target API key alone keeps the source URL
+    private TargetConnection targetConnection(RunContext runContext) throws IllegalVariableEvaluationException {
+        return new TargetConnection(
+            runContext.render(target.getUrl() == null ? getUrl() : target.getUrl()),
+            target.getApiKey() == null ? getApiKey() : target.getApiKey(),
+            target.getHeaders() == null ? getHeaders() : target.getHeaders(),
+            // the source gRPC host only applies to the source cluster
+            target.getUrl() == null ? getGrpcHost() : null
+        );
+    }
+
+    private Copy.Output run(RunContext runContext, WeaviateClient source, WeaviateClient destination, boolean otherCluster) throws Exception {
+        String renderedClassName = runContext.render(className).as(String.class).orElseThrow();
+        String targetClassName = runContext.render(target.getClassName()).as(String.class).orElse(renderedClassName);
+        String renderedTenant = runContext.render(tenant).as(String.class).orElse(null);
+        String targetTenant = runContext.render(target.getTenant()).as(String.class).orElse(renderedTenant);
+        if (!otherCluster && targetClassName.equals(renderedClassName) && Objects.equals(targetTenant, renderedTenant)) {
+            throw new IllegalArgumentException("The target of the copy must be another class, tenant or cluster");
+        }
+
+        int renderedPageSize = runContext.render(pageSize).as(Integer.class).orElseThrow();
+        Field[] fields = sourceFields(source, renderedClassName, runContext.render(properties).asList(String.class));
+        TaskMetrics metrics = new TaskMetrics(runContext, renderedClassName);
+        BatchWriter.Summary summary;
+        try (
+            BatchWriter writer = new BatchWriter(
+                runContext,
+                destination,
+                metrics,
+                runContext.render(concurrency).as(Integer.class).orElseThrow(),
+                runContext.render(maxRetries).as(Integer.class).orElseThrow(),
+                runContext.render(retryInitialDelay).as(Duration.class).orElseThrow()
+            )
+        ) {
+            String cursor = null;
+            List<Map<String, Object>> rows;
+            do {
+                var get = source.graphQL()
+                    .get()
+                    .withClassName(renderedClassName)
+                    .withFields(fields)
+                    .withLimit(renderedPageSize);
+
+                if (cursor != null) {
+                    get = get.withAfter(cursor);
+                }
+
+                if (renderedTenant != null) {
+                    get = get.withTenant(renderedTenant);
+                }
+
+                long start = System.nanoTime();
+                rows = WeaviateService.rows(get.run(), "Get", renderedClassName);
+                metrics.time("read.duration", start);
+                metrics.count("objects.read", rows.size());
+                if (!rows.isEmpty()) {
+                    writer.write(rows.stream().map(row -> toObject(row, targetClassName, targetTenant)).toList());
+                    cursor = WeaviateService.id(rows.getLast());
+                }
+            } while (rows.size() == renderedPageSize);
+
+            summary = writer.finish();
+        } finally {
+            metrics.emit();
+        }
+
+        runContext.logger().info(
+            "Copied {} object(s) from class '{}' to class '{}'",
+            summary.getCreatedCount(),
+            renderedClassName,
+            targetClassName
+        );
+
+        return Output.builder()
+            .copiedCount(summary.getCreatedCount())
+            .retriedCount(summary.getRetriedCount())
+            .failedCount(summary.getFailedCount())
+            .failedObjects(summary.getFailedObjects())
+            .build();
+    }
+
+    /**
+     * Selects the properties to copy, with the sub-fields GraphQL requires for geo coordinates, phone numbers and objects,
+     * plus the ID and vector.
+     */
+    private static Field[] sourceFields(WeaviateClient client, String className, List<String> properties) throws IOException {
+        Result<WeaviateClass> result = client.schema()
+            .classGetter()
+            .withClassName(className)
+            .run();
+
+        if (result.hasErrors()) {
+            String message = result.getError().getMessages().stream()
+                .map(WeaviateErrorMessage::getMessage)
+                .collect(Collectors.joining(", "));
+
+            throw new IOException(message);
+        }
+
+        if (result.getResult() == null) {
+            throw new IOException("Class '" + className + "' does not exist");
+        }
+
+        List<io.weaviate.client.v1.schema.model.Property> schemaProperties = result.getResult().getProperties() == null ? List.of() : result.getResult().getProperties();
+        Map<String, io.weaviate.client.v1.schema.model.Property> schema = schemaProperties.stream()
+            .collect(Collectors.toMap(io.weaviate.client.v1.schema.model.Property::getName, property -> property));
+
+        List<Field> fields = new ArrayList<>();
+        if (properties.isEmpty()) {
+            // cross-references have a class name as data type, primitive types are lower case
+            schemaProperties.stream()
+                .filter(property -> property.getDataType().stream().noneMatch(type -> Character.isUpperCase(type.charAt(0))))
+                .forEach(property -> fields.add(field(property.getName(), property.getDataType(), property.getNestedProperties())));
+        } else {
+            properties.forEach(name -> {
+                io.weaviate.client.v1.schema.model.Property property = schema.get(name);
+                fields.add(property == null ? Field.builder().name(name).build() : field(name, property.getDataType(), property.getNestedProperties()));
+            });
+        }
+
+        fields.addAll(Arrays.asList(WeaviateService.fields(List.of(), List.of("id", "vector"))));
+
+        return fields.toArray(Field[]::new);
+    }
+
+    private static Field field(String name, List<String> dataType, List<io.weaviate.client.v1.schema.model.Property.NestedProperty> nestedProperties) {
+        String type = dataType == null || dataType.isEmpty() ? "" : dataType.getFirst();
+
+        return switch (type) {
+            case "geoCoordinates" -> Field.builder().name(name).fields(subFields("latitude", "longitude")).build();
+            case "phoneNumber" -> Field.builder().name(name).fields(subFields("input", "defaultCountry")).build();
+            case "object", "object[]" -> Field.builder()
+                .name(name)
+                .fields(
+                    nestedProperties.stream()
+                        .map(nested -> field(nested.getName(), nested.getDataType(), nested.getNestedProperties()))
+                        .toArray(Field[]::new)
+                )
+                .build();
+            default -> Field.builder().name(name).build();
+        };
+    }
+
+    private static Field[] subFields(String... names) {
+        return Arrays.stream(names).map(name -> Field.builder().name(name).build()).toArray(Field[]::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WeaviateObject toObject(Map<String, Object> row, String className, String tenant) {
+        Map<String, Object> objectProperties = new HashMap<>(row);
+        Map<String, Object> additional = (Map<String, Object>) objectProperties.remove("_additional");
+        objectProperties.values().removeIf(value -> value == null);
+
+        return WeaviateObject.builder()
+            .id((String) additional.get("id"))
+            .className(className)
+            .tenant(tenant)
+            .vector(Vectors.toVector(additional.get("vector")))
+            .properties(objectProperties)
+            .build();
+    }
+
+    private record TargetConnection(String url, Property<String> apiKey, Property<Map<String, String>> headers, Property<String> grpcHost) {
+    }
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class Target {
+        @Schema(
+            title = "URL of the target cluster",
+            description = "Defaults to the source cluster."
+        )
+        @PluginProperty(dynamic = true)
+        private String url;
+
+        @Schema(
+            title = "API key of the target cluster",
+            description = "Defaults to the source API key."
+        )
+        @PluginProperty(secret = true)
+        private Property<String> apiKey;
+
+        @Schema(
+            title = "Headers sent to the target cluster",
+            description = "Defaults to the source headers."
+        )
+        private Property<Map<String, String>> headers;
+
+        @Schema(
+            title = "Target class name",
+            description = "Defaults to the source class name."
+        )
+        private Property<String> className;
+
+        @Schema(
+            title = "Target tenant",
+            description = "Defaults to the source tenant."
+        )
+        private Property<String> tenant;
+    }
+
+    @Getter
+    @Builder
+    public static class Output implements io.kestra.core.models.tasks.Output {
+
+        @Schema(
+            title = "Number of objects copied"
+        )
+        private long copiedCount;
+
+        @Schema(
+            title = "Number of object retries"
+        )
+        private long retriedCount;
+
+        @Schema(
+            title = "Number of objects that could not be written"
+        )
+        private long failedCount;
+
+        @Schema(
+            title = "URI of the ION file listing the objects that could not be written"
+        )
+        private URI failedObjects;
+    }
+}
@@ -1,22 +1,28 @@
 package io.kestra.plugin.weaviate;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.weaviate.client.WeaviateClient;
@@ -26,9 +32,14 @@ import io.weaviate.client.v1.batch.model.BatchDeleteOutput;
 import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
 import io.weaviate.client.v1.filters.Operator;
 import io.weaviate.client.v1.filters.WhereFilter;
+import io.weaviate.client.v1.graphql.query.fields.Field;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import reactor.core.publisher.Flux;
+
+import static io.kestra.core.utils.Rethrow.throwFunction;
 
 @SuperBuilder
 @ToString
@@ -37,7 +48,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @Schema(
     title = "Delete objects from a Weaviate class",
-    description = "Deletes a single object by ID or multiple objects with an AND filter. If no filter is provided, all objects in the class are deleted, so use cautiously."
+    description = "Deletes a single object by ID, a list of IDs, or multiple objects matching a structured `where` filter or an AND `filter`. If no filter is provided, all objects in the class are deleted, so use cautiously. Batch deletes are repeated until nothing matches anymore, so purges larger than the server batch-delete limit complete."
 )
 @Plugin(
     examples = {
@@ -58,12 +69,50 @@ import lombok.experimental.SuperBuilder;
                     # alternative: delete by AND filter on fields
                     # filter:
                     #   status: archived
+                    # alternative: delete with a structured, typed filter
+                    # where:
+                    #   operator: OR
+                    #   operands:
+                    #     - operator: LESS_THAN
+                    #       path: updatedAt
+                    #       value: "2024-01-01T00:00:00Z"
+                    #       valueType: DATE
+                    #     - operator: CONTAINS_ANY
+                    #       path: tags
+                    #       value: [obsolete, spam]
+                """
+        ),
+        @Example(
+            title = "Delete a known set of objects listed in an ION file, several batches at a time.",
+            full = true,
+            code = """
+                id: weaviate_delete_ids
+                namespace: company.team
+
+                tasks:
+                  - id: delete
+                    type: io.kestra.plugin.weaviate.Delete
+                    url: https://demo-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: WeaviateObject
+                    objectIds: "{{ outputs.previous.uri }}"
+                    concurrency: 4
+                    includeIds: false
                 """
         )
+    },
+    metrics = {
+        @Metric(name = "requests", type = Counter.TYPE, description = "Number of requests sent to Weaviate"),
+        @Metric(name = "request.errors", type = Counter.TYPE, description = "Number of requests Weaviate answered with an error"),
+        @Metric(name = "request.duration", type = Timer.TYPE, description = "Summed duration of the requests, with the slowest one in `request.duration.max` and their number in `request.duration.count`"),
+        @Metric(name = "objects.matched", type = Counter.TYPE, description = "Number of objects matched by the filter or IDs"),
+        @Metric(name = "objects.deleted", type = Counter.TYPE, description = "Number of deleted objects"),
+        @Metric(name = "objects.failed", type = Counter.TYPE, description = "Number of objects that could not be deleted")
     }
 )
 public class Delete extends WeaviateConnection implements RunnableTask<Delete.Output> {
-    private static Logger logger = LoggerFactory.getLogger(Delete.class);
+    // about one batch delete request worth of IDs, what the output held before deletes were repeated
+    private static final int MAX_IDS = 10_000;
 
     @Schema(
         title = "Class name for which you want to delete data"
@@ -86,17 +135,102 @@ public class Delete extends WeaviateConnection implements RunnableTask<Delete.Ou
     @PluginProperty(group = "processing")
     private Property<Map<String, Object>> filter;
 
+    @Schema(
+        title = "Structured filter for deletion",
+        description = "Nested AND/OR conditions with any Weaviate operator and typed values, e.g. GREATER_THAN on a number or CONTAINS_ANY on a text array. Takes precedence over `filter`."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Filter> where;
+
+    @Schema(
+        title = "Return the IDs of deleted objects",
+        description = "At most 10,000 IDs are returned, the first deleted ones, with a warning when more objects were deleted. When false, Weaviate only returns counts, which keeps large purges light on memory and network; the `ids` output is then not set."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> includeIds = Property.ofValue(true);
+
+    @Schema(
+        title = "Object IDs to delete",
+        description = "Either a Kestra storage URI to an ION file of IDs (plain strings or rows with an `id` field) or an inline list of IDs. IDs are deleted in batches of `batchSize` using a `ContainsAny` filter on `_id`. When set, `filter` and `where` are ignored.",
+        anyOf = {
+            String.class,
+            String[].class
+        }
+    )
+    @PluginProperty(dynamic = true, group = "main")
+    private Object objectIds;
+
+    @Schema(
+        title = "Number of IDs deleted per batch request",
+        description = "Only applies to `objectIds`."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> batchSize = Property.ofValue(1000);
+
+    @Schema(
+        title = "Maximum number of batch deletes in flight",
+        description = "Only applies to `objectIds`."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> concurrency = Property.ofValue(1);
+
+    @Schema(
+        title = "Only count the matching objects",
+        description = "Uses Weaviate's batch-delete dry run: nothing is deleted and `matchedCount` reports how many objects the filter or IDs match. Combine with `includeIds: false` to get the count alone."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> dryRun = Property.ofValue(false);
+
+    @Schema(
+        title = "Tenant to delete from",
+        description = "Required for classes with multi-tenancy enabled."
+    )
+    @PluginProperty(group = "main")
+    private Property<String> tenant;
+
+    @Schema(
+        title = "Tenants to delete from",
+        description = "Runs the same delete in every listed tenant, `tenantConcurrency` tenants at a time. Takes precedence over `tenant`."
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> tenants;
+
+    @Schema(
+        title = "Maximum number of tenants processed at the same time",
+        description = "Only applies to `tenants`."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> tenantConcurrency = Property.ofValue(4);
+
     @Override
     public Delete.Output run(RunContext runContext) throws Exception {
-        WeaviateClient client = connect(runContext);
         String renderedClassName = runContext.render(className);
+        TaskMetrics metrics = new TaskMetrics(runContext, renderedClassName);
 
-        if (objectId != null) {
-            Result<Boolean> result = client.data()
-                .deleter()
-                .withClassName(renderedClassName)
-                .withID(objectId)
-                .run();
+        try (SharedClient.Lease lease = connect(runContext)) {
+            return delete(runContext, lease.getClient(), renderedClassName, metrics);
+        } finally {
+            metrics.emit();
+        }
+    }
+
+    private Delete.Output delete(RunContext runContext, WeaviateClient client, String renderedClassName, TaskMetrics metrics) throws Exception {
+        boolean renderedDryRun = runContext.render(dryRun).as(Boolean.class).orElseThrow();
+        List<String> renderedTenants = runContext.render(tenants).asList(String.class);
+
+        if (objectId != null && !renderedDryRun && renderedTenants.isEmpty()) {
+            Result<Boolean> result = deleteObject(runContext, client, renderedClassName, runContext.render(tenant).as(String.class).orElse(null), metrics);
+            metrics.count("objects.deleted", result.getResult() == Boolean.TRUE ? 1 : 0);
 
             return Output.builder()
                 .className(renderedClassName)
@@ -105,56 +239,215 @@ public class Delete extends WeaviateConnection implements RunnableTask<Delete.Ou
                 .build();
         }
 
-        WhereFilter filter = null;
-        if (this.filter != null) {
-            filter = WhereFilter.builder()
-                .operator(Operator.And)
-                .operands(
-                    runContext.render(this.filter).asMap(String.class, Object.class)
-                        .entrySet()
-                        .stream()
-                        .map(e -> toWhereFilter(e.getKey(), e.getValue()))
-                        .toArray(WhereFilter[]::new)
-                )
-                .build();
+        boolean renderedIncludeIds = runContext.render(includeIds).as(Boolean.class).orElseThrow();
+        Deletion deletion = new Deletion(renderedIncludeIds, renderedDryRun, metrics, runContext.logger());
+
+        if (renderedTenants.isEmpty()) {
+            delete(runContext, client, renderedClassName, runContext.render(tenant).as(String.class).orElse(null), deletion);
+        } else {
+            try (BoundedExecutor executor = new BoundedExecutor(runContext.render(tenantConcurrency).as(Integer.class).orElseThrow())) {
+                for (String renderedTenant : renderedTenants) {
+                    executor.submit(() -> delete(runContext, client, renderedClassName, renderedTenant, deletion));
+                }
+
+                executor.await();
+            }
+        }
+
+        if (deletion.idsTruncated) {
+            runContext.logger().warn("The `ids` output is incomplete, it lists at most {} objects and, in dry run, at most the server batch-delete limit", MAX_IDS);
+        }
+
+        return Output.builder()
+            .className(renderedClassName)
+            .success(deletion.failedCount == 0)
+            .deletedCount(deletion.deletedCount)
+            .failedCount(deletion.failedCount)
+            .matchedCount(deletion.matchedCount)
+            .dryRun(renderedDryRun)
+            .ids(deletion.ids)
+            .build();
+    }
+
+    private Result<Boolean> deleteObject(RunContext runContext, WeaviateClient client, String className, String tenant, TaskMetrics metrics) throws Exception {
+        var deleter = client.data()
+            .deleter()
+            .withClassName(className)
+            .withID(runContext.render(objectId));
+
+        if (tenant != null) {
+            deleter = deleter.withTenant(tenant);
+        }
+
+        return metrics.request(deleter::run);
+    }
+
+    private void delete(RunContext runContext, WeaviateClient client, String renderedClassName, String tenant, Deletion deletion) throws Exception {
+        if (objectId != null && !deletion.dryRun) {
+            Result<Boolean> result = deleteObject(runContext, client, renderedClassName, tenant, deletion.metrics);
+            boolean deleted = result.getResult() == Boolean.TRUE;
+            deletion.add(deleted ? 1 : 0, deleted ? 1 : 0, deleted ? 0 : 1, deleted ? List.of(runContext.render(objectId)) : List.of());
+        } else if (objectId != null) {
+            batchDelete(
+                client,
+                renderedClassName,
+                tenant,
+                WhereFilter.builder()
+                    .path("_id")
+                    .operator(Operator.Equal)
+                    .valueText(runContext.render(objectId))
+                    .build(),
+                deletion
+            );
+        } else if (objectIds != null) {
+            int renderedBatchSize = runContext.render(batchSize).as(Integer.class).orElseThrow();
+
+            try (BoundedExecutor executor = new BoundedExecutor(runContext.render(concurrency).as(Integer.class).orElseThrow())) {
+                if (objectIds instanceof List<?> list) {
+                    deleteIds(client, renderedClassName, tenant, Flux.fromIterable(list).map(throwFunction(id -> runContext.render(String.valueOf(id)))), renderedBatchSize, executor, deletion);
+                } else if (objectIds instanceof String uri) {
+                    try (InputStream is = runContext.storage().getFile(URI.create(runContext.render(uri)))) {
+                        deleteIds(client, renderedClassName, tenant, FileSerde.readAll(is, Object.class).map(Delete::toId), renderedBatchSize, executor, deletion);
+                    }
+                }
+
+                executor.await();
+            }
         } else {
-            filter = WhereFilter.builder()
+            WhereFilter filter = null;
+            if (this.where != null) {
+                filter = runContext.render(this.where).as(Filter.class).orElseThrow().toWhereFilter();
+            } else if (this.filter != null) {
+                filter = WhereFilter.builder()
+                    .operator(Operator.And)
+                    .operands(
+                        runContext.render(this.filter).asMap(String.class, Object.class)
+                            .entrySet()
+                            .stream()
+                            .map(e -> toWhereFilter(e.getKey(), e.getValue()))
+                            .toArray(WhereFilter[]::new)
+                    )
+                    .build();
+            } else {
+                filter = WhereFilter.builder()
+                    .path("_id")
+                    .operator(Operator.NotEqual)
+                    .valueText("")
+                    .build();
+            }
+
+            batchDelete(client, renderedClassName, tenant, filter, deletion);
+        }
+    }
+
+    private void deleteIds(WeaviateClient client, String className, String tenant, Flux<String> ids, int batchSize, BoundedExecutor executor, Deletion deletion) throws Exception {
+        Iterator<List<String>> chunks = ids.buffer(batchSize).toIterable(1).iterator();
+
+        while (true) {
+            long start = System.nanoTime();
+            if (!chunks.hasNext()) {
+                break;
+            }
+            List<String> chunk = chunks.next();
+            deletion.metrics.time("read.duration", start);
+
+            WhereFilter filter = WhereFilter.builder()
                 .path("_id")
-                .operator(Operator.NotEqual)
-                .valueText("")
+                .operator(Operator.ContainsAny)
+                .valueTextArray(chunk.toArray(String[]::new))
                 .build();
+
+            executor.submit(() -> batchDelete(client, className, tenant, filter, deletion));
         }
+    }
+
+    private void batchDelete(WeaviateClient client, String className, String tenant, WhereFilter filter, Deletion deletion) throws IOException {
+        // Weaviate caps the number of objects a single batch delete touches (QUERY_MAXIMUM_RESULTS),
+        // so keep deleting until the filter no longer matches more than that limit.
+        while (true) {
+            var deleter = client.batch()
+                .objectsBatchDeleter()
+                .withOutput(deletion.collectsIds() ? BatchDeleteOutput.VERBOSE : BatchDeleteOutput.MINIMAL)
+                .withClassName(className)
+                .withWhere(filter)
+                .withDryRun(deletion.dryRun);
+
+            if (tenant != null) {
+                deleter = deleter.withTenant(tenant);
+            }
+
+            Result<BatchDeleteResponse> result = deletion.metrics.request(deleter::run);
+
+            if (result.hasErrors()) {
+                String message = result.getError().getMessages().stream()
+                    .map(WeaviateErrorMessage::getMessage)
+                    .collect(Collectors.joining(", "));
+
+                throw new IOException(message);
+            }
+
+            var results = result.getResult().getResults();
+            if (results == null) {
+                return;
+            }
+
+            long successful = count(results.getSuccessful());
+            deletion.add(
+                count(results.getMatches()),
+                successful,
+                count(results.getFailed()),
+                results.getObjects() == null ? List.of() : Arrays.stream(results.getObjects()).map(BatchDeleteResponse.ResultObject::getId).toList()
+            );
 
-        Result<BatchDeleteResponse> result = client.batch()
-            .objectsBatchDeleter()
-            .withOutput(BatchDeleteOutput.VERBOSE)
-            .withClassName(renderedClassName)
-            .withWhere(filter)
-            .run();
+            if (deletion.dryRun) {
+                long matches = count(results.getMatches());
+                if (results.getLimit() != null && matches >= count(results.getLimit())) {
+                    // a dry run reports at most the server limit, count the other matching objects with an aggregate
+                    deletion.addUnlisted(aggregateCount(client, className, tenant, filter, deletion.metrics) - matches);
+                }
 
-        if (result.hasErrors()) {
-            String message = result.getError().getMessages().stream()
-                .map(WeaviateErrorMessage::getMessage)
-                .collect(Collectors.joining(", "));
+                return;
+            }
 
-            throw new IOException(message);
+            if (successful == 0 || (results.getLimit() != null && count(results.getMatches()) < count(results.getLimit()))) {
+                return;
+            }
+
+            deletion.logger.debug("Deleted {} object(s) from '{}', more objects match the filter", successful, className);
         }
+    }
 
-        BatchDeleteResponse response = result.getResult();
+    @SuppressWarnings("unchecked")
+    private static long aggregateCount(WeaviateClient client, String className, String tenant, WhereFilter filter, TaskMetrics metrics) throws IOException {
+        var aggregate = client.graphQL()
+            .aggregate()
+            .withClassName(className)
+            .withFields(Field.builder().name("meta").fields(new Field[] { Field.builder().name("count").build() }).build())
+            .withWhere(filter);
 
-        List<String> ids = Collections.emptyList();
-        if (response.getResults() != null && response.getResults().getObjects() != null) {
-            ids = Arrays.stream(response.getResults().getObjects())
-                .map(BatchDeleteResponse.ResultObject::getId)
-                .toList();
+        if (tenant != null) {
+            aggregate = aggregate.withTenant(tenant);
         }
 
-        return Output.builder()
-            .className(renderedClassName)
-            .success(!result.hasErrors())
-            .deletedCount(response.getResults().getSuccessful())
-            .ids(ids)
-            .build();
+        List<Map<String, Object>> rows = WeaviateService.rows(metrics.request(aggregate::run), "Aggregate", className);
+        if (rows.isEmpty()) {
+            return 0L;
+        }
+
+        return ((Number) ((Map<String, Object>) rows.getFirst().get("meta")).get("count")).longValue();
+    }
+
+    private static String toId(Object row) {
+        Object id = row instanceof Map<?, ?> map ? map.get("id") : row;
+        if (id == null) {
+            throw new IllegalArgumentException("Row of `objectIds` has no `id`: " + row);
+        }
+
+        return String.valueOf(id);
+    }
+
+    private static long count(Long value) {
+        return value == null ? 0L : value;
     }
 
     private WhereFilter toWhereFilter(String path, Object value) {
@@ -170,6 +463,10 @@ public class Delete extends WeaviateConnection implements RunnableTask<Delete.Ou
             builder.valueDate(typedValue);
         } else if (value instanceof Integer typedValue) {
             builder.operator(Operator.Equal).valueNumber((double) typedValue);
+        } else if (value instanceof Long typedValue) {
+            builder.operator(Operator.Equal).valueNumber((double) typedValue);
+        } else if (value instanceof Float typedValue) {
+            builder.operator(Operator.Equal).valueNumber((double) typedValue);
         } else if (value instanceof Double typedValue) {
             builder.operator(Operator.Equal).valueNumber(typedValue);
         } else {
@@ -179,6 +476,60 @@ public class Delete extends WeaviateConnection implements RunnableTask<Delete.Ou
         return builder.build();
     }
 
+    private static class Deletion {
+        private final List<String> ids;
+        private final boolean dryRun;
+        private final TaskMetrics metrics;
+        private final Logger logger;
+        private boolean idsTruncated;
+        private long matchedCount;
+        private long deletedCount;
+        private long failedCount;
+
+        private Deletion(boolean includeIds, boolean dryRun, TaskMetrics metrics, Logger logger) {
+            this.ids = includeIds ? new ArrayList<>() : null;
+            this.dryRun = dryRun;
+            this.metrics = metrics;
+            this.logger = logger;
+        }
+
+        /**
+         * Whether IDs must still be requested from Weaviate: once the output list is full, counts are enough.
+         */
+        private synchronized boolean collectsIds() {
+            return ids != null && ids.size() < MAX_IDS;
+        }
+
+        private synchronized void add(long matched, long deleted, long failed, List<String> deletedIds) {
+            this.matchedCount += matched;
+            this.deletedCount += dryRun ? 0 : deleted;
+            this.failedCount += failed;
+            if (this.ids != null) {
+                int room = MAX_IDS - this.ids.size();
+                this.ids.addAll(deletedIds.subList(0, Math.min(room, deletedIds.size())));
+                this.idsTruncated |= (dryRun ? matched : deleted) > room;
+            }
+
+            metrics.count("objects.matched", matched);
+            metrics.count("objects.deleted", dryRun ? 0 : deleted);
+            metrics.count("objects.failed", failed);
+        }
+
+        /**
+         * Adds matched objects that Weaviate counted but did not list, so their IDs are missing from the output.
+         */
+        private synchronized void addUnlisted(long matched) {
+            if (matched <= 0) {
+                return;
+            }
+
+            this.matchedCount += matched;
+            this.idsTruncated |= this.ids != null;
+
+            metrics.count("objects.matched", matched);
+        }
+    }
+
     @Getter
     @Builder
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -199,7 +550,24 @@ public class Delete extends WeaviateConnection implements RunnableTask<Delete.Ou
         private long deletedCount;
 
         @Schema(
-            title = "IDs of deleted objects"
+            title = "Number of objects that could not be deleted"
+        )
+        private long failedCount;
+
+        @Schema(
+            title = "Number of objects matched by the filter or IDs",
+            description = "Summed over every batch delete request; in dry run, the number of objects that would be deleted, counted with an aggregate when they exceed the server batch-delete limit."
+        )
+        private long matchedCount;
+
+        @Schema(
+            title = "Whether this was a dry run"
+        )
+        private boolean dryRun;
+
+        @Schema(
+            title = "IDs of deleted objects",
+            description = "Only set when `includeIds` is true, and capped to the first 10,000 IDs. In dry run, the IDs of the matched objects, at most the server batch-delete limit (`QUERY_MAXIMUM_RESULTS`) per filter."
         )
         private List<String> ids;
     }
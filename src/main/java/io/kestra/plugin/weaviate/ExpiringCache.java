@@ -0,0 +1,195 @@
+package io.kestra.plugin.weaviate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Small in-memory LRU cache whose entries also expire after a time to live.
+ * <p>
+ * When {@code expireAfterAccess} is set, each read pushes the expiry back, which keeps frequently used entries alive.
+ * Values leaving the cache by expiry, size eviction or replacement are handed to the optional removal listener, e.g. to
+ * release them once no running task uses them anymore; {@link #clear()} returns them to the caller instead. A weigher,
+ * e.g. the estimated size in bytes, bounds the total weight of the entries on top of their number.
+ */
+final class ExpiringCache<K, V> {
+    private final int maximumSize;
+    private final long maximumWeight;
+    private final ToLongFunction<V> weigher;
+    private final long ttlNanos;
+    private final boolean expireAfterAccess;
+    private final Consumer<V> removalListener;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<K, CompletableFuture<V>> loading = new HashMap<>();
+    private long weight;
+
+    ExpiringCache(int maximumSize, Duration ttl, boolean expireAfterAccess) {
+        this(maximumSize, ttl, expireAfterAccess, value -> {
+        });
+    }
+
+    ExpiringCache(int maximumSize, Duration ttl, boolean expireAfterAccess, Consumer<V> removalListener) {
+        this(maximumSize, Long.MAX_VALUE, value -> 0L, ttl, expireAfterAccess, removalListener);
+    }
+
+    ExpiringCache(int maximumSize, long maximumWeight, ToLongFunction<V> weigher, Duration ttl, boolean expireAfterAccess) {
+        this(maximumSize, maximumWeight, weigher, ttl, expireAfterAccess, value -> {
+        });
+    }
+
+    ExpiringCache(int maximumSize, long maximumWeight, ToLongFunction<V> weigher, Duration ttl, boolean expireAfterAccess, Consumer<V> removalListener) {
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.ttlNanos = ttl.toNanos();
+        this.expireAfterAccess = expireAfterAccess;
+        this.removalListener = removalListener;
+    }
+
+    synchronized Optional<V> getIfPresent(K key) {
+        long now = System.nanoTime();
+        evictExpired(now);
+
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        if (expireAfterAccess) {
+            entry.expiresAt = now + ttlNanos;
+        }
+
+        return Optional.of(entry.value);
+    }
+
+    /**
+     * Returns the cached value, or loads it. The loader runs outside the cache lock, so a slow load only holds up the
+     * callers of the same key, which wait for its result instead of loading the value again.
+     */
+    V get(K key, Loader<V> loader) throws Exception {
+        CompletableFuture<V> load;
+        boolean owner;
+        synchronized (this) {
+            Optional<V> cached = getIfPresent(key);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+
+            load = loading.get(key);
+            owner = load == null;
+            if (owner) {
+                load = new CompletableFuture<>();
+                loading.put(key, load);
+            }
+        }
+
+        if (!owner) {
+            try {
+                return load.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception cause ? cause : e;
+            }
+        }
+
+        try {
+            V value = loader.load();
+            synchronized (this) {
+                loading.remove(key);
+                put(key, value);
+            }
+            load.complete(value);
+
+            return value;
+        } catch (Throwable e) {
+            synchronized (this) {
+                loading.remove(key);
+            }
+            load.completeExceptionally(e);
+
+            throw e;
+        }
+    }
+
+    synchronized void put(K key, V value) {
+        put(key, value, ttlNanos);
+    }
+
+    /**
+     * Caches a value with its own time to live instead of the cache default.
+     */
+    synchronized void put(K key, V value, Duration ttl) {
+        put(key, value, ttl.toNanos());
+    }
+
+    private void put(K key, V value, long entryTtlNanos) {
+        long now = System.nanoTime();
+        evictExpired(now);
+
+        Entry<V> entry = new Entry<>(value, weigher.applyAsLong(value), now + entryTtlNanos);
+        Entry<V> replaced = entries.put(key, entry);
+        weight += entry.weight;
+        if (replaced != null) {
+            weight -= replaced.weight;
+            if (replaced.value != value) {
+                removalListener.accept(replaced.value);
+            }
+        }
+
+        // a value heavier than the whole cache evicts everything else and then itself
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while ((entries.size() > maximumSize || weight > maximumWeight) && eldest.hasNext()) {
+            Entry<V> evicted = eldest.next();
+            weight -= evicted.weight;
+            removalListener.accept(evicted.value);
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Removes every entry and returns the values that were cached.
+     */
+    synchronized List<V> clear() {
+        List<V> values = entries.values().stream().map(entry -> entry.value).toList();
+        entries.clear();
+        weight = 0;
+
+        return values;
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> {
+            if (entry.expiresAt - now > 0) {
+                return false;
+            }
+
+            weight -= entry.weight;
+            removalListener.accept(entry.value);
+            return true;
+        });
+    }
+
+    @FunctionalInterface
+    interface Loader<V> {
+        V load() throws Exception;
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private long expiresAt;
+
+        private Entry(V value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package io.kestra.plugin.weaviate;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@Schema(
+    title = "Export all objects of a Weaviate class",
+    description = "Pages through a whole class with the cursor API and streams every object to a Kestra ION file. Memory use stays flat whatever the class size, and there is no offset limit."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Export the properties, id and vector of every object in a class.",
+            full = true,
+            code = """
+                id: weaviate_export
+                namespace: company.team
+
+                tasks:
+                  - id: export
+                    type: io.kestra.plugin.weaviate.Export
+                    url: https://demo-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: Question
+                    properties:
+                      - question
+                      - answer
+                    additionalFields:
+                      - id
+                      - vector
+                """
+        )
+    }
+)
+public class Export extends WeaviateConnection implements RunnableTask<Export.Output> {
+
+    @Schema(
+        title = "Class name to export"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> className;
+
+    @Schema(
+        title = "Properties to export"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> properties;
+
+    @Schema(
+        title = "Additional fields to export",
+        description = "Fields of the `_additional` block such as `vector` or `creationTimeUnix`. `id` is always exported since the cursor relies on it."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<List<String>> additionalFields = Property.ofValue(List.of("id"));
+
+    @Schema(
+        title = "Tenant to export",
+        description = "Required for classes with multi-tenancy enabled."
+    )
+    @PluginProperty(group = "main")
+    private Property<String> tenant;
+
+    @Schema(
+        title = "Number of objects fetched per page"
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> pageSize = Property.ofValue(100);
+
+    @Override
+    public Export.Output run(RunContext runContext) throws Exception {
+        try (SharedClient.Lease lease = connect(runContext)) {
+            return run(runContext, lease.getClient());
+        }
+    }
+
+    private Export.Output run(RunContext runContext, WeaviateClient client) throws Exception {
+        String renderedClassName = runContext.render(className).as(String.class).orElseThrow();
+        int renderedPageSize = runContext.render(pageSize).as(Integer.class).orElseThrow();
+        String renderedTenant = runContext.render(tenant).as(String.class).orElse(null);
+
+        List<String> additional = new ArrayList<>(runContext.render(additionalFields).asList(String.class));
+        if (!additional.contains("id")) {
+            additional.add("id");
+        }
+        Field[] fields = WeaviateService.fields(runContext.render(properties).asList(String.class), additional);
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        long size = 0;
+        try (OutputStream output = new FileOutputStream(tempFile)) {
+            String cursor = null;
+            List<Map<String, Object>> rows;
+            do {
+                var get = client.graphQL()
+                    .get()
+                    .withClassName(renderedClassName)
+                    .withFields(fields)
+                    .withLimit(renderedPageSize);
+
+                if (cursor != null) {
+                    get = get.withAfter(cursor);
+                }
+
+                if (renderedTenant != null) {
+                    get = get.withTenant(renderedTenant);
+                }
+
+                Result<GraphQLResponse> result = get.run();
+
+                rows = WeaviateService.rows(result, "Get", renderedClassName);
+                for (Map<String, Object> row : rows) {
+                    FileSerde.write(output, row);
+                }
+
+                size += rows.size();
+                if (!rows.isEmpty()) {
+                    cursor = WeaviateService.id(rows.getLast());
+                }
+            } while (rows.size() == renderedPageSize);
+        }
+
+        return Output.builder()
+            .uri(runContext.storage().putFile(tempFile))
+            .size(size)
+            .build();
+    }
+
+    @Getter
+    @Builder
+    public static class Output implements io.kestra.core.models.tasks.Output {
+
+        @Schema(
+            title = "URI of the ION file holding the exported objects"
+        )
+        private URI uri;
+
+        @Schema(
+            title = "Number of exported objects"
+        )
+        private long size;
+    }
+}
@@ -0,0 +1,231 @@
+package io.kestra.plugin.weaviate;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.weaviate.client.v1.filters.WhereFilter;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+@Getter
+@Builder
+@Jacksonized
+@Schema(
+    title = "Structured Weaviate filter",
+    description = "Either a logical node (`AND`/`OR` with `operands`) or a condition on a property `path`. Values are sent with their Weaviate type, so the inverted index is used instead of a text scan."
+)
+public class Filter {
+    @Schema(
+        title = "Filter operator"
+    )
+    @NotNull
+    private Operator operator;
+
+    @Schema(
+        title = "Sub-filters of an AND or OR node"
+    )
+    private List<Filter> operands;
+
+    @Schema(
+        title = "Property path of a condition",
+        description = "A property name, or several names to follow cross-references, e.g. `[inPublication, Publication, name]`. Use `_id` or `_creationTimeUnix` for metadata."
+    )
+    @JsonFormat(with = JsonFormat.Feature.ACCEPT_SINGLE_VALUE_AS_ARRAY)
+    private List<String> path;
+
+    @Schema(
+        title = "Value compared with the property",
+        description = "A scalar, a list for CONTAINS_ANY and CONTAINS_ALL, or `{latitude, longitude, distance}` (distance in meters) for WITHIN_GEO_RANGE. Its type is inferred from the value unless `valueType` is set."
+    )
+    private Object value;
+
+    @Schema(
+        title = "Weaviate type of the value",
+        description = "Overrides type inference, e.g. NUMBER for a whole number compared with a `number` property, or DATE for an RFC 3339 string. Whole numbers beyond the 32-bit range are inferred as NUMBER, as INT values are limited to 32 bits."
+    )
+    private ValueType valueType;
+
+    WhereFilter toWhereFilter() {
+        if (operator == null) {
+            throw new IllegalArgumentException("Filter operator is required");
+        }
+
+        WhereFilter.WhereFilterBuilder builder = WhereFilter.builder()
+            .operator(operator.getValue());
+
+        if (operator == Operator.AND || operator == Operator.OR) {
+            if (operands == null || operands.isEmpty()) {
+                throw new IllegalArgumentException("Filter operator " + operator + " requires operands");
+            }
+
+            return builder
+                .operands(operands.stream().map(Filter::toWhereFilter).toArray(WhereFilter[]::new))
+                .build();
+        }
+
+        if (path == null || path.isEmpty()) {
+            throw new IllegalArgumentException("Filter operator " + operator + " requires a path");
+        }
+        builder.path(path.toArray(String[]::new));
+
+        if (operator == Operator.IS_NULL) {
+            return builder.valueBoolean(value == null || Boolean.parseBoolean(value.toString())).build();
+        }
+
+        if (value == null) {
+            throw new IllegalArgumentException("Filter operator " + operator + " on " + path + " requires a value");
+        }
+
+        if (operator == Operator.WITHIN_GEO_RANGE) {
+            return builder.valueGeoRange(geoRange(value)).build();
+        }
+
+        if (value instanceof List<?> values) {
+            ValueType type = valueType != null ? valueType : values.isEmpty() ? ValueType.TEXT : ValueType.of(values.getFirst());
+            switch (type) {
+                case TEXT -> builder.valueTextArray(values.stream().map(String::valueOf).toArray(String[]::new));
+                case INT -> builder.valueIntArray(values.stream().map(this::toInt).toArray(Integer[]::new));
+                case NUMBER -> builder.valueNumberArray(values.stream().map(Filter::toDouble).toArray(Double[]::new));
+                case BOOLEAN -> builder.valueBooleanArray(values.stream().map(Filter::toBoolean).toArray(Boolean[]::new));
+                case DATE -> builder.valueDateArray(values.stream().map(Filter::toDate).toArray(Date[]::new));
+            }
+
+            return builder.build();
+        }
+
+        switch (valueType != null ? valueType : ValueType.of(value)) {
+            case TEXT -> builder.valueText(value.toString());
+            case INT -> builder.valueInt(toInt(value));
+            case NUMBER -> builder.valueNumber(toDouble(value));
+            case BOOLEAN -> builder.valueBoolean(toBoolean(value));
+            case DATE -> builder.valueDate(toDate(value));
+        }
+
+        return builder.build();
+    }
+
+    private static WhereFilter.GeoRange geoRange(Object value) {
+        if (!(value instanceof Map<?, ?> map) || map.get("latitude") == null || map.get("longitude") == null || map.get("distance") == null) {
+            throw new IllegalArgumentException("WITHIN_GEO_RANGE requires a value with latitude, longitude and distance, got " + value);
+        }
+
+        return WhereFilter.GeoRange.builder()
+            .geoCoordinates(
+                WhereFilter.GeoCoordinates.builder()
+                    .latitude(toDouble(map.get("latitude")).floatValue())
+                    .longitude(toDouble(map.get("longitude")).floatValue())
+                    .build()
+            )
+            .distance(
+                WhereFilter.GeoDistance.builder()
+                    .max(toDouble(map.get("distance")).floatValue())
+                    .build()
+            )
+            .build();
+    }
+
+    // the Weaviate client only sends 32-bit INT values, although Weaviate stores 64-bit ones
+    private Integer toInt(Object value) {
+        try {
+            if (value instanceof BigInteger number) {
+                return number.intValueExact();
+            } else if (value instanceof Number number) {
+                return Math.toIntExact(number.longValue());
+            }
+
+            return Integer.valueOf(value.toString().trim());
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new IllegalArgumentException(
+                "Filter value " + value + " on " + path + " is not a 32-bit INT; use `valueType: NUMBER` for larger whole numbers",
+                e
+            );
+        }
+    }
+
+    private static Double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+
+        return Double.valueOf(value.toString().trim());
+    }
+
+    private static Boolean toBoolean(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+
+        return Boolean.valueOf(value.toString().trim());
+    }
+
+    private static Date toDate(Object value) {
+        return switch (value) {
+            case Date date -> date;
+            case Instant instant -> Date.from(instant);
+            case ZonedDateTime dateTime -> Date.from(dateTime.toInstant());
+            case OffsetDateTime dateTime -> Date.from(dateTime.toInstant());
+            default -> Date.from(OffsetDateTime.parse(value.toString().trim()).toInstant());
+        };
+    }
+
+    @Getter
+    public enum Operator {
+        AND(io.weaviate.client.v1.filters.Operator.And),
+        OR(io.weaviate.client.v1.filters.Operator.Or),
+        EQUAL(io.weaviate.client.v1.filters.Operator.Equal),
+        NOT_EQUAL(io.weaviate.client.v1.filters.Operator.NotEqual),
+        GREATER_THAN(io.weaviate.client.v1.filters.Operator.GreaterThan),
+        GREATER_THAN_EQUAL(io.weaviate.client.v1.filters.Operator.GreaterThanEqual),
+        LESS_THAN(io.weaviate.client.v1.filters.Operator.LessThan),
+        LESS_THAN_EQUAL(io.weaviate.client.v1.filters.Operator.LessThanEqual),
+        LIKE(io.weaviate.client.v1.filters.Operator.Like),
+        WITHIN_GEO_RANGE(io.weaviate.client.v1.filters.Operator.WithinGeoRange),
+        IS_NULL(io.weaviate.client.v1.filters.Operator.IsNull),
+        CONTAINS_ANY(io.weaviate.client.v1.filters.Operator.ContainsAny),
+        CONTAINS_ALL(io.weaviate.client.v1.filters.Operator.ContainsAll);
+
+        private final String value;
+
+        Operator(String value) {
+            this.value = value;
+        }
+    }
+
+    public enum ValueType {
+        TEXT,
+        INT,
+        NUMBER,
+        BOOLEAN,
+        DATE;
+
+        static ValueType of(Object value) {
+            return switch (value) {
+                case Boolean ignored -> BOOLEAN;
+                case Integer ignored -> INT;
+                // whole numbers beyond 32 bits cannot be sent as INT, e.g. epoch millis compared with a number property
+                case Long number -> number == number.intValue() ? INT : NUMBER;
+                case Short ignored -> INT;
+                case BigInteger number -> number.bitLength() < Integer.SIZE ? INT : NUMBER;
+                case Float ignored -> NUMBER;
+                case Double ignored -> NUMBER;
+                case BigDecimal ignored -> NUMBER;
+                case Date ignored -> DATE;
+                case Instant ignored -> DATE;
+                case ZonedDateTime ignored -> DATE;
+                case OffsetDateTime ignored -> DATE;
+                default -> TEXT;
+            };
+        }
+    }
+}
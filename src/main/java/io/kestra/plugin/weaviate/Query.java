@@ -3,24 +3,36 @@ package io.kestra.plugin.weaviate;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.common.FetchOutput;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
+import io.kestra.core.serializers.JacksonMapper;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import io.weaviate.client.WeaviateClient;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.v1.graphql.model.GraphQLError;
@@ -95,12 +107,26 @@ import reactor.core.publisher.Flux;
                       }
                 """
         )
+    },
+    metrics = {
+        @Metric(name = "requests", type = Counter.TYPE, description = "Number of requests sent to Weaviate"),
+        @Metric(name = "request.errors", type = Counter.TYPE, description = "Number of requests Weaviate answered with an error"),
+        @Metric(name = "request.duration", type = Timer.TYPE, description = "Summed duration of the requests, with the slowest one in `request.duration.max` and their number in `request.duration.count`"),
+        @Metric(name = "rows", type = Counter.TYPE, description = "Number of rows returned"),
+        @Metric(name = "cache.hits", type = Counter.TYPE, description = "Number of responses served from the cache"),
+        @Metric(name = "response.bytes", type = Counter.TYPE, description = "Size of the streamed response"),
+        @Metric(name = "storage.upload.bytes", type = Counter.TYPE, description = "Size of the ION file uploaded to the internal storage")
     }
 )
 public class Query extends WeaviateConnection implements RunnableTask<FetchOutput> {
+    // the estimated sizes are rough, they only keep the cache from growing the worker heap without bound
+    private static final long MAX_CACHE_BYTES = 64L * 1024 * 1024;
+    private static final long MAX_CACHED_RESPONSE_BYTES = 8L * 1024 * 1024;
+    private static final ExpiringCache<CacheKey, CachedResponse> RESULTS = new ExpiringCache<>(256, MAX_CACHE_BYTES, CachedResponse::bytes, Duration.ofMinutes(5), false);
 
     @Schema(
-        title = "GraphQL query"
+        title = "GraphQL query",
+        description = "For a multi-tenant class, name the tenant in the query itself, e.g. `Get { Documents(tenant: \"customer-a\") { title } }`."
     )
     @PluginProperty(dynamic = true, group = "main")
     @NotBlank
@@ -115,16 +141,81 @@ public class Query extends WeaviateConnection implements RunnableTask<FetchOutpu
     @PluginProperty(group = "processing")
     protected Property<FetchType> fetchType = Property.ofValue(FetchType.STORE);
 
+    @Schema(
+        title = "Stream the response to storage",
+        description = "Only applies to the STORE fetch type. The HTTP response is parsed token by token and each row is written to the ION file as soon as it is read, so peak memory is about one row instead of the whole result."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Boolean> streaming = Property.ofValue(false);
+
+    @Schema(
+        title = "Cache the response for this duration",
+        description = "When set, the response of an identical rendered query sent to the same URL with the same credentials is kept in the worker memory and reused until it expires, without a round trip to Weaviate. The cache holds at most 256 responses and about 64 MiB, least recently used first out; responses larger than about 8 MiB are never cached. Ignored in streaming mode."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Duration> cacheTtl;
+
     @Override
     public FetchOutput run(RunContext runContext) throws Exception {
-        WeaviateClient client = connect(runContext);
+        TaskMetrics metrics = new TaskMetrics(runContext, null);
+
+        try {
+            return query(runContext, metrics);
+        } finally {
+            metrics.emit();
+        }
+    }
+
+    private FetchOutput query(RunContext runContext, TaskMetrics metrics) throws Exception {
+        if (runContext.render(fetchType).as(FetchType.class).orElseThrow() == FetchType.STORE && runContext.render(streaming).as(Boolean.class).orElseThrow()) {
+            return storeStreaming(runContext, metrics);
+        }
+
+        String renderedQuery = runContext.render(query);
+        Optional<Duration> renderedCacheTtl = runContext.render(cacheTtl).as(Duration.class);
+        if (renderedCacheTtl.isEmpty()) {
+            return output(runContext, metrics, execute(runContext, metrics, renderedQuery));
+        }
 
-        Result<GraphQLResponse> result = client.graphQL()
-            .raw()
-            .withQuery(runContext.render(query))
-            .run();
+        CacheKey key = new CacheKey(connectionHash(runContext), renderedQuery);
+        Optional<CachedResponse> cached = RESULTS.getIfPresent(key);
+        if (cached.isPresent()) {
+            runContext.logger().debug("Using the cached response of the query");
+            metrics.count("cache.hits", 1);
+            return output(runContext, metrics, cached.get().data());
+        }
+
+        metrics.count("cache.misses", 1);
+        Object data = execute(runContext, metrics, renderedQuery);
+        long bytes = estimatedSize(data);
+        if (bytes <= MAX_CACHED_RESPONSE_BYTES) {
+            // executions hitting the cache share the response, so it must not be changed by any of them
+            RESULTS.put(key, new CachedResponse(immutableCopy(data), bytes), renderedCacheTtl.get());
+        } else {
+            runContext.logger().warn("The response of the query is about {} bytes, too large to be cached", bytes);
+        }
+
+        return output(runContext, metrics, data);
+    }
+
+    private Object execute(RunContext runContext, TaskMetrics metrics, String renderedQuery) throws Exception {
+        Result<GraphQLResponse> result;
+        try (SharedClient.Lease lease = connect(runContext)) {
+            result = metrics.request(
+                lease.getClient()
+                    .graphQL()
+                    .raw()
+                    .withQuery(renderedQuery)::run
+            );
+        }
 
         if (result.hasErrors() || result.getResult().getErrors() != null) {
+            if (!result.hasErrors()) {
+                metrics.count("request.errors", 1);
+            }
+
             String message = Optional.ofNullable(result.getError())
                 .map(
                     weaviateError -> weaviateError.getMessages().stream()
@@ -140,47 +231,143 @@ public class Query extends WeaviateConnection implements RunnableTask<FetchOutpu
             throw new IOException(message);
         }
 
+        return result.getResult().getData();
+    }
+
+    private FetchOutput output(RunContext runContext, TaskMetrics metrics, Object data) throws Exception {
         FetchOutput.FetchOutputBuilder outputBuilder = FetchOutput.builder();
 
         FetchType renderedFetchType = runContext.render(fetchType).as(FetchType.class).orElseThrow();
         return (switch (renderedFetchType) {
             case FETCH_ONE -> {
-                Map<String, Object> data = extractRow(result);
+                Map<String, Object> row = extractRow(data);
+                metrics.count("rows", row == null ? 0L : 1L);
                 yield outputBuilder
-                    .size(data == null ? 0L : 1L)
-                    .row(data)
+                    .size(row == null ? 0L : 1L)
+                    .row(row)
                     .build();
             }
             case FETCH, STORE -> {
-                var rows = extractRows(result);
+                var rows = extractRows(data);
+                metrics.count("rows", rows.size());
                 outputBuilder = outputBuilder.size((long) rows.size());
 
                 if (FetchType.FETCH.equals(renderedFetchType)) {
                     yield outputBuilder.rows(rows).build();
                 } else {
-                    yield outputBuilder.uri(store(rows, runContext)).build();
+                    yield outputBuilder.uri(store(rows, runContext, metrics)).build();
                 }
             }
             default -> outputBuilder.build();
         });
     }
 
-    private URI store(List<Object> data, RunContext runContext) throws IOException {
+    private URI store(List<Object> data, RunContext runContext, TaskMetrics metrics) throws IOException {
         File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        long start = System.nanoTime();
         try (OutputStream output = new FileOutputStream(tempFile)) {
             var flux = Flux.fromIterable(data);
             FileSerde.writeAll(output, flux).block();
             output.flush();
         }
+        metrics.time("storage.write.duration", start);
 
-        return runContext.storage().putFile(tempFile);
+        return metrics.putFile(tempFile);
+    }
+
+    private FetchOutput storeStreaming(RunContext runContext, TaskMetrics metrics) throws Exception {
+        ObjectMapper mapper = JacksonMapper.ofJson();
+        HttpRequest request = graphQLRequest(runContext)
+            .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(Map.of("query", runContext.render(query)))))
+            .build();
+
+        // the request duration covers reading the whole response, as it is parsed while it is received
+        long start = System.nanoTime();
+        metrics.count("requests", 1);
+        HttpResponse<InputStream> response = httpClient(runContext).send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        long size = 0;
+        List<String> errors = new ArrayList<>();
+        try (
+            InputStream body = response.body();
+            OutputStream output = new FileOutputStream(tempFile)
+        ) {
+            if (response.statusCode() >= 400) {
+                metrics.count("request.errors", 1);
+                throw new IOException("Weaviate returned HTTP " + response.statusCode() + ": " + new String(body.readAllBytes(), StandardCharsets.UTF_8));
+            }
+
+            // Response structure: {"data": {"Get": {"Class1": [{"prop": "value"}, ...]}}, "errors": [{"message": "..."}]}
+            try (JsonParser parser = mapper.getFactory().createParser(body)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    throw new IOException("Unexpected GraphQL response, expected a JSON object");
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken value = parser.nextToken();
+
+                    if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+                        size += streamData(parser, mapper, output);
+                    } else if ("errors".equals(field) && value == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            Map<?, ?> error = mapper.readValue(parser, Map.class);
+                            errors.add(String.valueOf(error.get("message")));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+
+                metrics.count("response.bytes", parser.currentLocation().getByteOffset());
+            }
+        }
+        metrics.time("request.duration", start);
+        metrics.count("rows", size);
+
+        if (!errors.isEmpty()) {
+            metrics.count("request.errors", 1);
+            throw new IOException(String.join(", ", errors));
+        }
+
+        return FetchOutput.builder()
+            .size(size)
+            .uri(metrics.putFile(tempFile))
+            .build();
+    }
+
+    // Reads {"Get": {"Class1": [...], "Class2": [...]}} and writes each row as {"Class1": row}
+    private long streamData(JsonParser parser, ObjectMapper mapper, OutputStream output) throws IOException {
+        long size = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String className = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    FileSerde.write(output, Map.of(className, mapper.readValue(parser, Map.class)));
+                    size++;
+                }
+            }
+        }
+
+        return size;
     }
 
     // Response structure:
-    // result.getResult().getData() = {"GET": {"Class1": [{"prop": "value"}], "Class2": [{"prop2": "value2"}]}}
+    // data = {"GET": {"Class1": [{"prop": "value"}], "Class2": [{"prop2": "value2"}]}}
     // Method will return {
-    private Map<String, List<Map<String, Object>>> extractResultByClassName(Result<GraphQLResponse> result) {
-        var castResult = (Map<String, Map<String, List<Map<String, Object>>>>) result.getResult().getData();
+    private Map<String, List<Map<String, Object>>> extractResultByClassName(Object data) {
+        var castResult = (Map<String, Map<String, List<Map<String, Object>>>>) data;
         return castResult.values().stream().reduce(new HashMap<>(), (acc, map) ->
         {
             acc.putAll(map);
@@ -192,20 +379,69 @@ public class Query extends WeaviateConnection implements RunnableTask<FetchOutpu
         });
     }
 
-    private Map<String, Object> extractRow(Result<GraphQLResponse> result) {
-        return extractResultByClassName(result).values().stream()
+    private Map<String, Object> extractRow(Object data) {
+        return extractResultByClassName(data).values().stream()
             .findFirst()
             .map(Collection::stream)
             .flatMap(Stream::findFirst)
             .orElse(null);
     }
 
-    private List<Object> extractRows(Result<GraphQLResponse> result) {
-        return extractResultByClassName(result).entrySet().stream()
+    private List<Object> extractRows(Object data) {
+        return extractResultByClassName(data).entrySet().stream()
             .flatMap(
                 e -> e.getValue().stream()
                     .map(object -> Map.entry(e.getKey(), object))
             ).map(Object.class::cast)
             .toList();
     }
+
+    /**
+     * Roughly estimates the heap size of a deserialized JSON response, to bound the memory held by the cache.
+     */
+    private static long estimatedSize(Object value) {
+        if (value instanceof String string) {
+            return 40L + 2L * string.length();
+        } else if (value instanceof Map<?, ?> map) {
+            long size = 48L;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += 32L + estimatedSize(entry.getKey()) + estimatedSize(entry.getValue());
+            }
+            return size;
+        } else if (value instanceof Collection<?> collection) {
+            long size = 24L;
+            for (Object element : collection) {
+                size += 8L + estimatedSize(element);
+            }
+            return size;
+        }
+
+        return value == null ? 0L : 16L;
+    }
+
+    /**
+     * Deeply copies a deserialized JSON response into unmodifiable maps and lists, keeping its null values.
+     */
+    private static Object immutableCopy(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, element) -> copy.put(key, immutableCopy(element)));
+            return Collections.unmodifiableMap(copy);
+        } else if (value instanceof Collection<?> collection) {
+            List<Object> copy = new ArrayList<>(collection.size());
+            collection.forEach(element -> copy.add(immutableCopy(element)));
+            return Collections.unmodifiableList(copy);
+        }
+
+        return value;
+    }
+
+    private record CachedResponse(Object data, long bytes) {
+    }
+
+    /**
+     * Identifies a cached response by the target cluster and credentials, and the rendered query.
+     */
+    private record CacheKey(String connectionHash, String query) {
+    }
 }
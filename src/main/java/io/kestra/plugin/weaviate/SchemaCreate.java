@@ -1,13 +1,18 @@
 package io.kestra.plugin.weaviate;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Metric;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.runners.RunContext;
 
@@ -15,11 +20,20 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.weaviate.client.WeaviateClient;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.v1.misc.model.BM25Config;
+import io.weaviate.client.v1.misc.model.BQConfig;
+import io.weaviate.client.v1.misc.model.InvertedIndexConfig;
+import io.weaviate.client.v1.misc.model.PQConfig;
+import io.weaviate.client.v1.misc.model.SQConfig;
+import io.weaviate.client.v1.misc.model.VectorIndexConfig;
+import io.weaviate.client.v1.schema.model.MultiTenancyConfig;
 import io.weaviate.client.v1.schema.model.Property;
+import io.weaviate.client.v1.schema.model.Tenant;
 import io.weaviate.client.v1.schema.model.WeaviateClass;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import lombok.extern.jackson.Jacksonized;
 
 @SuperBuilder
 @ToString
@@ -28,7 +42,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @Schema(
     title = "Create a Weaviate class schema",
-    description = "Creates a new Weaviate class with the provided properties. Fails if the class already exists; data types must match Weaviate schema types."
+    description = "Creates a new Weaviate class with the provided properties; data types must match Weaviate schema types. Fails if the class already exists, unless `reconcile` is enabled: the existing class is then fetched once and only its missing properties are added."
 )
 @Plugin(
     examples = {
@@ -52,7 +66,72 @@ import lombok.experimental.SuperBuilder;
                         - string
                       category:
                         - string"""
+        ),
+        @Example(
+            title = "Create a class on the first deploy and add new properties on the following ones.",
+            full = true,
+            code = """
+                id: reconcile_weaviate_schema
+                namespace: company.team
+
+                tasks:
+                  - id: schema
+                    type: io.kestra.plugin.weaviate.SchemaCreate
+                    url: "https://demo-cluster-id.weaviate.network"
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: Movies
+                    reconcile: true
+                    fields:
+                      name:
+                        - text
+                      releaseYear:
+                        - int
+                """
+        ),
+        @Example(
+            title = "Create a large class with a tuned HNSW index, product quantization and a keyword-only property.",
+            full = true,
+            code = """
+                id: tuned_weaviate_schema
+                namespace: company.team
+
+                tasks:
+                  - id: schema
+                    type: io.kestra.plugin.weaviate.SchemaCreate
+                    url: "https://demo-cluster-id.weaviate.network"
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: Documents
+                    fields:
+                      body:
+                        - text
+                      sku:
+                        - text
+                    propertySettings:
+                      sku:
+                        tokenization: FIELD
+                        indexSearchable: false
+                    vectorIndexType: HNSW
+                    vectorIndex:
+                      distance: cosine
+                      efConstruction: 256
+                      maxConnections: 32
+                      ef: -1
+                      dynamicEfMin: 100
+                      dynamicEfMax: 500
+                      quantization: PQ
+                      pqSegments: 96
+                    invertedIndex:
+                      bm25B: 0.75
+                      bm25K1: 1.2
+                """
         )
+    },
+    metrics = {
+        @Metric(name = "requests", type = Counter.TYPE, description = "Number of requests sent to Weaviate"),
+        @Metric(name = "request.errors", type = Counter.TYPE, description = "Number of requests Weaviate answered with an error"),
+        @Metric(name = "request.duration", type = Timer.TYPE, description = "Summed duration of the requests, with the slowest one in `request.duration.max` and their number in `request.duration.count`"),
+        @Metric(name = "properties.added", type = Counter.TYPE, description = "Number of properties created"),
+        @Metric(name = "tenants.added", type = Counter.TYPE, description = "Number of tenants created")
     }
 )
 public class SchemaCreate extends WeaviateConnection implements RunnableTask<SchemaCreate.Output> {
@@ -70,24 +149,218 @@ public class SchemaCreate extends WeaviateConnection implements RunnableTask<Sch
     )
     private io.kestra.core.models.property.Property<Map<String, List<String>>> fields;
 
+    @Schema(
+        title = "Reconcile an existing class instead of failing",
+        description = "When true, the class is created only if it does not exist yet. Otherwise, only the properties of `fields` missing from the class are added; existing properties are never changed or removed, and no call is made when nothing differs."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private io.kestra.core.models.property.Property<Boolean> reconcile = io.kestra.core.models.property.Property.ofValue(false);
+
+    @Schema(
+        title = "Index settings per property",
+        description = "Map of property name (from `fields`) to its tokenization and inverted index settings. Properties left out use the Weaviate defaults."
+    )
+    @PluginProperty(group = "advanced")
+    private io.kestra.core.models.property.Property<Map<String, PropertySettings>> propertySettings;
+
+    @Schema(
+        title = "Vector index type",
+        description = "HNSW suits large classes, FLAT small ones (e.g. one per tenant), and DYNAMIC starts flat and switches to HNSW past a size threshold (requires async indexing). Only applied when the class is created."
+    )
+    @PluginProperty(group = "advanced")
+    private io.kestra.core.models.property.Property<VectorIndexType> vectorIndexType;
+
+    @Schema(
+        title = "Vector index tuning",
+        description = "Trades recall for memory and latency. Only applied when the class is created."
+    )
+    @PluginProperty(group = "advanced")
+    private io.kestra.core.models.property.Property<VectorIndex> vectorIndex;
+
+    @Schema(
+        title = "Inverted index tuning",
+        description = "Only applied when the class is created."
+    )
+    @PluginProperty(group = "advanced")
+    private io.kestra.core.models.property.Property<InvertedIndex> invertedIndex;
+
+    @Schema(
+        title = "Enable multi-tenancy",
+        description = "Each tenant then holds its objects in its own shard, and every data request must name a tenant. Only applied when the class is created."
+    )
+    @PluginProperty(group = "advanced")
+    private io.kestra.core.models.property.Property<Boolean> multiTenancy;
+
+    @Schema(
+        title = "Tenants to create",
+        description = "Created along with the class, or, with `reconcile`, added when missing from an existing multi-tenant class."
+    )
+    @PluginProperty(group = "advanced")
+    private io.kestra.core.models.property.Property<List<String>> tenants;
+
     @Override
     public SchemaCreate.Output run(RunContext runContext) throws Exception {
-        WeaviateClient client = connect(runContext);
+        String renderedClassName = runContext.render(className);
+        TaskMetrics metrics = new TaskMetrics(runContext, renderedClassName);
+
+        try (SharedClient.Lease lease = connect(runContext)) {
+            return create(runContext, lease.getClient(), renderedClassName, metrics);
+        } finally {
+            metrics.emit();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private SchemaCreate.Output create(RunContext runContext, WeaviateClient client, String renderedClassName, TaskMetrics metrics) throws Exception {
+        Map<String, PropertySettings> renderedPropertySettings = runContext.render(propertySettings).asMap(String.class, PropertySettings.class);
 
         List<Property> properties = runContext.render(fields).asMap(String.class, List.class)
             .entrySet().stream()
-            .map(SchemaCreate::buildProperty)
+            .map(entry -> buildProperty(entry.getKey(), (List<String>) entry.getValue(), renderedPropertySettings.get(entry.getKey())))
             .toList();
 
-        WeaviateClass weaviateClass = WeaviateClass.builder()
-            .className(className)
-            .properties(properties).build();
+        if (runContext.render(reconcile).as(Boolean.class).orElse(false)) {
+            Result<WeaviateClass> existing = metrics.request(
+                client.schema()
+                    .classGetter()
+                    .withClassName(renderedClassName)::run
+            );
+            boolean missing = existing.hasErrors() ? existing.getError().getStatusCode() == 404 : existing.getResult() == null;
+            if (!missing) {
+                check(existing);
+                return reconcile(runContext, client, metrics, existing.getResult(), properties);
+            }
+        }
+
+        WeaviateClass.WeaviateClassBuilder classBuilder = WeaviateClass.builder()
+            .className(renderedClassName)
+            .properties(properties);
+
+        runContext.render(vectorIndexType).as(VectorIndexType.class)
+            .ifPresent(type -> classBuilder.vectorIndexType(type.getValue()));
+        runContext.render(vectorIndex).as(VectorIndex.class)
+            .ifPresent(index -> classBuilder.vectorIndexConfig(index.toVectorIndexConfig()));
+        runContext.render(invertedIndex).as(InvertedIndex.class)
+            .ifPresent(index -> classBuilder.invertedIndexConfig(index.toInvertedIndexConfig()));
+        runContext.render(multiTenancy).as(Boolean.class)
+            .ifPresent(enabled -> classBuilder.multiTenancyConfig(MultiTenancyConfig.builder().enabled(enabled).build()));
+
+        WeaviateClass weaviateClass = classBuilder.build();
+
+        Result<Boolean> result = metrics.request(
+            client.schema()
+                .classCreator()
+                .withClass(weaviateClass)::run
+        );
+        check(result);
+
+        List<String> renderedTenants = runContext.render(tenants).asList(String.class);
+        createTenants(client, metrics, renderedClassName, renderedTenants);
+        metrics.count("properties.added", properties.size());
+        metrics.count("tenants.added", renderedTenants.size());
+
+        return Output.builder()
+            .success(result.getResult())
+            .created(true)
+            .addedProperties(properties.stream().map(Property::getName).toList())
+            .addedTenants(renderedTenants)
+            .build();
+    }
+
+    private static void createTenants(WeaviateClient client, TaskMetrics metrics, String className, List<String> tenants) throws IOException {
+        if (tenants.isEmpty()) {
+            return;
+        }
+
+        check(
+            metrics.request(
+                client.schema()
+                    .tenantsCreator()
+                    .withClassName(className)
+                    .withTenants(tenants.stream().map(name -> Tenant.builder().name(name).build()).toArray(Tenant[]::new))::run
+            )
+        );
+    }
+
+    private SchemaCreate.Output reconcile(RunContext runContext, WeaviateClient client, TaskMetrics metrics, WeaviateClass existing, List<Property> properties) throws Exception {
+        List<Property> existingProperties = existing.getProperties() == null ? List.of() : existing.getProperties();
+        List<String> addedProperties = new ArrayList<>();
+
+        for (Property property : properties) {
+            Property current = existingProperties.stream()
+                .filter(candidate -> storedName(candidate.getName()).equals(storedName(property.getName())))
+                .findFirst()
+                .orElse(null);
+
+            if (current == null) {
+                check(
+                    metrics.request(
+                        client.schema()
+                            .propertyCreator()
+                            .withClassName(existing.getClassName())
+                            .withProperty(property)::run
+                    )
+                );
+                addedProperties.add(property.getName());
+            } else if (!storedDataType(current.getDataType()).equals(storedDataType(property.getDataType()))) {
+                runContext.logger().warn(
+                    "Property '{}' of class '{}' has data type {} instead of {}; Weaviate cannot change it in place",
+                    property.getName(),
+                    existing.getClassName(),
+                    current.getDataType(),
+                    property.getDataType()
+                );
+            }
+        }
+
+        List<String> addedTenants = new ArrayList<>(runContext.render(tenants).asList(String.class));
+        if (!addedTenants.isEmpty()) {
+            Result<List<Tenant>> existingTenants = metrics.request(
+                client.schema()
+                    .tenantsGetter()
+                    .withClassName(existing.getClassName())::run
+            );
+            check(existingTenants);
+
+            existingTenants.getResult().forEach(existingTenant -> addedTenants.remove(existingTenant.getName()));
+            createTenants(client, metrics, existing.getClassName(), addedTenants);
+        }
+
+        metrics.count("properties.added", addedProperties.size());
+        metrics.count("tenants.added", addedTenants.size());
+
+        if (addedProperties.isEmpty() && addedTenants.isEmpty()) {
+            runContext.logger().info("Class '{}' is up to date", existing.getClassName());
+        } else {
+            runContext.logger().info("Added properties {} and tenants {} to class '{}'", addedProperties, addedTenants, existing.getClassName());
+        }
+
+        return Output.builder()
+            .success(true)
+            .created(false)
+            .addedProperties(addedProperties)
+            .addedTenants(addedTenants)
+            .build();
+    }
 
-        Result<Boolean> result = client.schema()
-            .classCreator()
-            .withClass(weaviateClass)
-            .run();
+    // Weaviate stores property names with a lower-case first letter, the rest of the name is case-sensitive
+    private static String storedName(String name) {
+        return name.isEmpty() ? name : Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    // the deprecated string types are stored as text
+    private static List<String> storedDataType(List<String> dataType) {
+        return dataType.stream()
+            .map(type -> switch (type) {
+                case "string" -> "text";
+                case "string[]" -> "text[]";
+                default -> type;
+            })
+            .toList();
+    }
 
+    private static void check(Result<?> result) throws IOException {
         if (result.hasErrors()) {
             String message = result.getError().getMessages().stream()
                 .map(WeaviateErrorMessage::getMessage)
@@ -95,12 +368,259 @@ public class SchemaCreate extends WeaviateConnection implements RunnableTask<Sch
 
             throw new IOException(message);
         }
+    }
+
+    private static Property buildProperty(String name, List<String> dataType, PropertySettings settings) {
+        Property.PropertyBuilder builder = Property.builder().name(name).dataType(dataType);
+        if (settings != null) {
+            builder
+                .indexFilterable(settings.getIndexFilterable())
+                .indexSearchable(settings.getIndexSearchable())
+                .tokenization(settings.getTokenization() == null ? null : settings.getTokenization().getValue());
+        }
+
+        return builder.build();
+    }
+
+    @Getter
+    public enum VectorIndexType {
+        HNSW("hnsw"),
+        FLAT("flat"),
+        DYNAMIC("dynamic");
+
+        private final String value;
+
+        VectorIndexType(String value) {
+            this.value = value;
+        }
+    }
+
+    @Getter
+    public enum Tokenization {
+        WORD("word"),
+        LOWERCASE("lowercase"),
+        WHITESPACE("whitespace"),
+        FIELD("field"),
+        TRIGRAM("trigram");
+
+        private final String value;
+
+        Tokenization(String value) {
+            this.value = value;
+        }
+    }
 
-        return Output.builder().success(result.getResult()).build();
+    public enum Quantization {
+        NONE,
+        PQ,
+        BQ,
+        SQ
     }
 
-    private static Property buildProperty(Map.Entry<String, List<String>> entry) {
-        return Property.builder().name(entry.getKey()).dataType(entry.getValue()).build();
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class PropertySettings {
+        @Schema(
+            title = "Build the filterable inverted index",
+            description = "Needed to filter on the property; disabling it saves memory and import time."
+        )
+        private Boolean indexFilterable;
+
+        @Schema(
+            title = "Build the searchable inverted index",
+            description = "Needed for BM25 and hybrid search on a text property."
+        )
+        private Boolean indexSearchable;
+
+        @Schema(
+            title = "How text is split into tokens",
+            description = "FIELD keeps the whole value as one token, e.g. for identifiers."
+        )
+        private Tokenization tokenization;
+    }
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class VectorIndex {
+        @Schema(
+            title = "Distance metric",
+            description = "One of `cosine`, `dot`, `l2-squared`, `hamming` or `manhattan`."
+        )
+        private String distance;
+
+        @Schema(
+            title = "HNSW search list size",
+            description = "Higher is more accurate and slower; -1 lets Weaviate pick it between `dynamicEfMin` and `dynamicEfMax`."
+        )
+        private Integer ef;
+
+        @Schema(
+            title = "HNSW build list size",
+            description = "Higher improves recall at the cost of import speed."
+        )
+        private Integer efConstruction;
+
+        @Schema(
+            title = "HNSW maximum connections per node",
+            description = "Higher improves recall at the cost of memory."
+        )
+        private Integer maxConnections;
+
+        @Schema(
+            title = "Lower bound of the dynamic ef"
+        )
+        private Integer dynamicEfMin;
+
+        @Schema(
+            title = "Upper bound of the dynamic ef"
+        )
+        private Integer dynamicEfMax;
+
+        @Schema(
+            title = "Multiplier of the limit giving the dynamic ef"
+        )
+        private Integer dynamicEfFactor;
+
+        @Schema(
+            title = "Maximum number of vectors held in the memory cache"
+        )
+        private Long vectorCacheMaxObjects;
+
+        @Schema(
+            title = "Filter size below which a filtered search switches to a flat scan"
+        )
+        private Integer flatSearchCutoff;
+
+        @Schema(
+            title = "Vector compression",
+            description = "PQ (product quantization), BQ (binary quantization) or SQ (scalar quantization) keep compressed vectors in memory, cutting RAM several-fold for some recall."
+        )
+        private Quantization quantization;
+
+        @Schema(
+            title = "Number of PQ segments",
+            description = "Requires `quantization: PQ`. Must divide the vector dimensions."
+        )
+        private Integer pqSegments;
+
+        @Schema(
+            title = "Number of PQ centroids",
+            description = "Requires `quantization: PQ`."
+        )
+        private Integer pqCentroids;
+
+        @Schema(
+            title = "Number of objects used to train PQ or SQ",
+            description = "Requires `quantization: PQ` or `SQ`."
+        )
+        private Integer trainingLimit;
+
+        @Schema(
+            title = "Number of candidates rescored with the uncompressed vectors",
+            description = "Requires `quantization: SQ`."
+        )
+        private Integer rescoreLimit;
+
+        VectorIndexConfig toVectorIndexConfig() {
+            Quantization renderedQuantization = quantization == null ? Quantization.NONE : quantization;
+            // settings of another compression would otherwise be dropped silently, leaving the index uncompressed
+            requireQuantization("pqSegments", pqSegments, renderedQuantization, Quantization.PQ);
+            requireQuantization("pqCentroids", pqCentroids, renderedQuantization, Quantization.PQ);
+            requireQuantization("trainingLimit", trainingLimit, renderedQuantization, Quantization.PQ, Quantization.SQ);
+            requireQuantization("rescoreLimit", rescoreLimit, renderedQuantization, Quantization.SQ);
+
+            VectorIndexConfig.VectorIndexConfigBuilder builder = VectorIndexConfig.builder()
+                .distance(distance)
+                .ef(ef)
+                .efConstruction(efConstruction)
+                .maxConnections(maxConnections)
+                .dynamicEfMin(dynamicEfMin)
+                .dynamicEfMax(dynamicEfMax)
+                .dynamicEfFactor(dynamicEfFactor)
+                .vectorCacheMaxObjects(vectorCacheMaxObjects)
+                .flatSearchCutoff(flatSearchCutoff);
+
+            switch (renderedQuantization) {
+                case PQ -> builder.pq(
+                    PQConfig.builder()
+                        .enabled(true)
+                        .segments(pqSegments)
+                        .centroids(pqCentroids)
+                        .trainingLimit(trainingLimit)
+                        .build()
+                );
+                case BQ -> builder.bq(BQConfig.builder().enabled(true).build());
+                case SQ -> builder.sq(
+                    SQConfig.builder()
+                        .enabled(true)
+                        .trainingLimit(trainingLimit)
+                        .rescoreLimit(rescoreLimit)
+                        .build()
+                );
+                case NONE -> {
+                }
+            }
+
+            return builder.build();
+        }
+
+        private static void requireQuantization(String name, Object value, Quantization quantization, Quantization... required) {
+            if (value != null && !List.of(required).contains(quantization)) {
+                throw new IllegalArgumentException(
+                    "`vectorIndex." + name + "` requires `quantization` " + Arrays.stream(required).map(Enum::name).collect(Collectors.joining(" or ")) + ", got " + quantization
+                );
+            }
+        }
+    }
+
+    @Getter
+    @Builder
+    @Jacksonized
+    public static class InvertedIndex {
+        @Schema(
+            title = "BM25 `b` parameter",
+            description = "Document length normalization, between 0 and 1. Defaults to 0.75."
+        )
+        private Float bm25B;
+
+        @Schema(
+            title = "BM25 `k1` parameter",
+            description = "Term frequency saturation. Defaults to 1.2."
+        )
+        private Float bm25K1;
+
+        @Schema(
+            title = "Index creation and update timestamps",
+            description = "Needed to filter on `_creationTimeUnix` and `_lastUpdateTimeUnix`."
+        )
+        private Boolean indexTimestamps;
+
+        @Schema(
+            title = "Index null values",
+            description = "Needed for the IS_NULL filter operator."
+        )
+        private Boolean indexNullState;
+
+        @Schema(
+            title = "Index property lengths",
+            description = "Needed to filter on `len(property)`."
+        )
+        private Boolean indexPropertyLength;
+
+        InvertedIndexConfig toInvertedIndexConfig() {
+            InvertedIndexConfig.InvertedIndexConfigBuilder builder = InvertedIndexConfig.builder()
+                .indexTimestamps(indexTimestamps)
+                .indexNullState(indexNullState)
+                .indexPropertyLength(indexPropertyLength);
+
+            if (bm25B != null || bm25K1 != null) {
+                builder.bm25(BM25Config.builder().b(bm25B).k1(bm25K1).build());
+            }
+
+            return builder.build();
+        }
     }
 
     @Getter
@@ -112,5 +632,20 @@ public class SchemaCreate extends WeaviateConnection implements RunnableTask<Sch
         )
         private Boolean success;
 
+        @Schema(
+            title = "Whether the class was created by this run",
+            description = "False when `reconcile` found the class already existing."
+        )
+        private Boolean created;
+
+        @Schema(
+            title = "Names of the properties added by this run"
+        )
+        private List<String> addedProperties;
+
+        @Schema(
+            title = "Names of the tenants added by this run"
+        )
+        private List<String> addedTenants;
     }
 }
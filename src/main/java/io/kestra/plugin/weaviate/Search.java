@@ -0,0 +1,315 @@
+package io.kestra.plugin.weaviate;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.models.tasks.common.FetchOutput;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.v1.graphql.query.argument.Bm25Argument;
+import io.weaviate.client.v1.graphql.query.argument.HybridArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearTextArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@Schema(
+    title = "Search a Weaviate class",
+    description = "Runs a nearVector, nearText, hybrid or bm25 search with the client typed builders, without writing GraphQL. Vectors are passed as a list of numbers or a Kestra storage URI, and are never rendered into a query template."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Find the five objects closest to a precomputed embedding.",
+            full = true,
+            code = """
+                id: weaviate_near_vector
+                namespace: company.team
+
+                tasks:
+                  - id: search
+                    type: io.kestra.plugin.weaviate.Search
+                    url: https://demo-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: Question
+                    searchType: NEAR_VECTOR
+                    vector: "{{ outputs.embed.uri }}"
+                    properties:
+                      - question
+                      - answer
+                    limit: 5
+                    distance: 0.3
+                    fetchType: FETCH
+                """
+        ),
+        @Example(
+            title = "Run a hybrid search restricted by a filter.",
+            full = true,
+            code = """
+                id: weaviate_hybrid
+                namespace: company.team
+
+                tasks:
+                  - id: search
+                    type: io.kestra.plugin.weaviate.Search
+                    url: https://demo-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    headers:
+                      X-OpenAI-Api-Key: "{{ secret('OPENAI_API_KEY') }}"
+                    className: Question
+                    searchType: HYBRID
+                    query: biology
+                    alpha: 0.5
+                    properties:
+                      - question
+                    where:
+                      operator: EQUAL
+                      path: category
+                      value: SCIENCE
+                    fetchType: FETCH
+                """
+        )
+    }
+)
+public class Search extends WeaviateConnection implements RunnableTask<FetchOutput> {
+
+    @Schema(
+        title = "Class name to search"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> className;
+
+    @Schema(
+        title = "Kind of search",
+        description = "NEAR_VECTOR needs `vector`; NEAR_TEXT needs `query` and a vectorizer module; HYBRID needs `query` and optionally `vector`; BM25 needs `query`."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "main")
+    private Property<SearchType> searchType = Property.ofValue(SearchType.NEAR_VECTOR);
+
+    @Schema(
+        title = "Query vector",
+        description = "Either a list of numbers or a Kestra storage URI to an ION/JSON file holding the vector, as a list or as a row with a `vector` field.",
+        anyOf = {
+            String.class,
+            Number[].class
+        }
+    )
+    @PluginProperty(dynamic = true, group = "main")
+    private Object vector;
+
+    @Schema(
+        title = "Query text",
+        description = "Concept for NEAR_TEXT, keywords for BM25 and HYBRID."
+    )
+    @PluginProperty(group = "main")
+    private Property<String> query;
+
+    @Schema(
+        title = "Properties to return"
+    )
+    @PluginProperty(group = "main")
+    private Property<List<String>> properties;
+
+    @Schema(
+        title = "Additional fields to return",
+        description = "Fields of the `_additional` block such as `id`, `distance`, `certainty`, `score` or `vector`."
+    )
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<List<String>> additionalFields = Property.ofValue(List.of("id", "distance"));
+
+    @Schema(
+        title = "Properties searched by BM25 and HYBRID",
+        description = "Defaults to every text property."
+    )
+    @PluginProperty(group = "processing")
+    private Property<List<String>> searchProperties;
+
+    @Schema(
+        title = "Named vector to search",
+        description = "For classes configured with several named vectors."
+    )
+    @PluginProperty(group = "processing")
+    private Property<String> targetVector;
+
+    @Schema(
+        title = "Maximum number of results"
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    private Property<Integer> limit = Property.ofValue(10);
+
+    @Schema(
+        title = "Maximum vector distance of NEAR_VECTOR and NEAR_TEXT results"
+    )
+    @PluginProperty(group = "processing")
+    private Property<Double> distance;
+
+    @Schema(
+        title = "Minimum certainty of NEAR_VECTOR and NEAR_TEXT results",
+        description = "Only for classes using the cosine distance."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Double> certainty;
+
+    @Schema(
+        title = "HYBRID balance between keyword and vector search",
+        description = "0 is pure BM25, 1 is pure vector search."
+    )
+    @PluginProperty(group = "processing")
+    private Property<Double> alpha;
+
+    @Schema(
+        title = "Filter applied before the search"
+    )
+    @PluginProperty(group = "processing")
+    private Property<Filter> where;
+
+    @Schema(
+        title = "Tenant to search",
+        description = "Required for classes with multi-tenancy enabled."
+    )
+    @PluginProperty(group = "main")
+    private Property<String> tenant;
+
+    @Schema(
+        title = "Select fetch behavior",
+        description = "Defaults to STORE (writes all rows to Kestra storage as ION and returns the URI). FETCH returns all rows inline, FETCH_ONE returns the first row, NONE skips result materialization."
+    )
+    @NotNull
+    @Builder.Default
+    @PluginProperty(group = "processing")
+    protected Property<FetchType> fetchType = Property.ofValue(FetchType.STORE);
+
+    @Override
+    public FetchOutput run(RunContext runContext) throws Exception {
+        try (SharedClient.Lease lease = connect(runContext)) {
+            return run(runContext, lease.getClient());
+        }
+    }
+
+    private FetchOutput run(RunContext runContext, WeaviateClient client) throws Exception {
+        String renderedClassName = runContext.render(className).as(String.class).orElseThrow();
+        String renderedQuery = runContext.render(query).as(String.class).orElse(null);
+        String[] renderedTargetVectors = runContext.render(targetVector).as(String.class).map(name -> new String[] { name }).orElse(null);
+        List<String> searchPropertyList = runContext.render(searchProperties).asList(String.class);
+        String[] renderedSearchProperties = searchPropertyList.isEmpty() ? null : searchPropertyList.toArray(String[]::new);
+        Float renderedDistance = runContext.render(distance).as(Double.class).map(Double::floatValue).orElse(null);
+        Float renderedCertainty = runContext.render(certainty).as(Double.class).map(Double::floatValue).orElse(null);
+
+        var get = client.graphQL()
+            .get()
+            .withClassName(renderedClassName)
+            .withFields(
+                WeaviateService.fields(
+                    runContext.render(properties).asList(String.class),
+                    runContext.render(additionalFields).asList(String.class)
+                )
+            )
+            .withLimit(runContext.render(limit).as(Integer.class).orElseThrow());
+
+        SearchType renderedSearchType = runContext.render(searchType).as(SearchType.class).orElseThrow();
+        switch (renderedSearchType) {
+            case NEAR_VECTOR -> get = get.withNearVector(
+                NearVectorArgument.builder()
+                    .vector(readVector(runContext))
+                    .distance(renderedDistance)
+                    .certainty(renderedCertainty)
+                    .targetVectors(renderedTargetVectors)
+                    .build()
+            );
+            case NEAR_TEXT -> get = get.withNearText(
+                NearTextArgument.builder()
+                    .concepts(new String[] { required(renderedQuery, renderedSearchType) })
+                    .distance(renderedDistance)
+                    .certainty(renderedCertainty)
+                    .targetVectors(renderedTargetVectors)
+                    .build()
+            );
+            case HYBRID -> get = get.withHybrid(
+                HybridArgument.builder()
+                    .query(required(renderedQuery, renderedSearchType))
+                    .alpha(runContext.render(alpha).as(Double.class).map(Double::floatValue).orElse(null))
+                    .vector(vector == null ? null : readVector(runContext))
+                    .properties(renderedSearchProperties)
+                    .targetVectors(renderedTargetVectors)
+                    .build()
+            );
+            case BM25 -> get = get.withBm25(
+                Bm25Argument.builder()
+                    .query(required(renderedQuery, renderedSearchType))
+                    .properties(renderedSearchProperties)
+                    .build()
+            );
+        }
+
+        if (where != null) {
+            get = get.withWhere(runContext.render(where).as(Filter.class).orElseThrow().toWhereFilter());
+        }
+
+        String renderedTenant = runContext.render(tenant).as(String.class).orElse(null);
+        if (renderedTenant != null) {
+            get = get.withTenant(renderedTenant);
+        }
+
+        List<Map<String, Object>> rows = WeaviateService.rows(get.run(), "Get", renderedClassName);
+
+        return WeaviateService.fetchOutput(runContext, runContext.render(fetchType).as(FetchType.class).orElseThrow(), rows);
+    }
+
+    private Float[] readVector(RunContext runContext) throws Exception {
+        if (vector == null) {
+            throw new IllegalArgumentException("`vector` is required for a NEAR_VECTOR search");
+        }
+
+        if (!(vector instanceof String uri)) {
+            return Vectors.toVector(vector);
+        }
+
+        String rendered = runContext.render(uri).trim();
+        if (rendered.startsWith("[")) {
+            return Vectors.toVector(rendered);
+        }
+
+        try (InputStream is = runContext.storage().getFile(URI.create(rendered))) {
+            Object first = FileSerde.readAll(is, Object.class).blockFirst();
+            return Vectors.toVector(first instanceof Map<?, ?> row ? row.get("vector") : first);
+        }
+    }
+
+    private static String required(String query, SearchType searchType) {
+        if (query == null) {
+            throw new IllegalArgumentException("`query` is required for a " + searchType + " search");
+        }
+
+        return query;
+    }
+
+    public enum SearchType {
+        NEAR_VECTOR,
+        NEAR_TEXT,
+        HYBRID,
+        BM25
+    }
+}
@@ -0,0 +1,79 @@
+package io.kestra.plugin.weaviate;
+
+import io.weaviate.client.WeaviateClient;
+
+/**
+ * A client shared by the task executions of a worker.
+ * <p>
+ * Tasks use the client through a {@link Lease}. Once the client leaves the cache, by LRU or TTL eviction, no new lease
+ * is handed out and the client is released when its last lease is closed, never under a running task.
+ */
+final class SharedClient {
+    private final WeaviateClient client;
+    private int users;
+    private boolean evicted;
+    private boolean released;
+
+    SharedClient(WeaviateClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Returns a lease on the client, or null when the client was evicted meanwhile and must not be used anymore.
+     */
+    synchronized Lease acquire() {
+        if (evicted) {
+            return null;
+        }
+
+        users++;
+
+        return new Lease();
+    }
+
+    /**
+     * Marks the client as evicted from the cache, closing it right away if no task is using it.
+     */
+    synchronized void evict() {
+        evicted = true;
+        closeIfUnused();
+    }
+
+    private synchronized void release() {
+        users--;
+        closeIfUnused();
+    }
+
+    private void closeIfUnused() {
+        if (!evicted || users > 0 || released) {
+            return;
+        }
+
+        // The synchronous WeaviateClient has no close(): each HTTP request opens and closes its own connection, and
+        // each gRPC batch request shuts its channel down once answered. Dropping the last reference releases it.
+        released = true;
+    }
+
+    /**
+     * The use of the shared client by one task execution, released on {@link #close()}.
+     */
+    final class Lease implements AutoCloseable {
+        private boolean released;
+
+        WeaviateClient getClient() {
+            return client;
+        }
+
+        @Override
+        public void close() {
+            synchronized (SharedClient.this) {
+                if (released) {
+                    return;
+                }
+
+                released = true;
+                release();
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.kestra.plugin.weaviate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.kestra.core.models.executions.metrics.Counter;
+import io.kestra.core.models.executions.metrics.Timer;
+import io.kestra.core.runners.RunContext;
+
+import io.weaviate.client.base.Result;
+
+/**
+ * Accumulates the counters and timers of one task run and reports them once.
+ * <p>
+ * Workers of a {@link BoundedExecutor} only add to thread-safe totals; {@link #emit()} is called by the task thread
+ * when the run is over, so {@link RunContext#metric} is never called concurrently and a run reports a fixed number of
+ * entries however many requests it sends. Each timer is reported as the summed duration of its calls, plus a
+ * {@code <name>.max} timer with the slowest call and a {@code <name>.count} counter, for a mean latency and its outliers.
+ */
+final class TaskMetrics {
+    private final RunContext runContext;
+    private final String[] tags;
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, TimerTotals> timers = new ConcurrentHashMap<>();
+
+    TaskMetrics(RunContext runContext, String className) {
+        this.runContext = runContext;
+        this.tags = className == null ? new String[0] : new String[] { "className", className };
+    }
+
+    void count(String name, long value) {
+        counters.computeIfAbsent(name, key -> new LongAdder()).add(value);
+    }
+
+    void time(String name, long startNanos) {
+        timers.computeIfAbsent(name, key -> new TimerTotals()).add(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Runs one Weaviate request, adding its latency to {@code request.duration} and counting it in {@code requests},
+     * and in {@code request.errors} when Weaviate answered with an error.
+     */
+    <T> Result<T> request(Supplier<Result<T>> request) {
+        long start = System.nanoTime();
+        Result<T> result = request.get();
+        time("request.duration", start);
+        count("requests", 1);
+        if (result.hasErrors()) {
+            count("request.errors", 1);
+        }
+
+        return result;
+    }
+
+    /**
+     * Uploads a file to the internal storage, counting its size and the upload time.
+     */
+    URI putFile(File file) throws IOException {
+        // the internal storage deletes the file once uploaded
+        long length = file.length();
+        long start = System.nanoTime();
+        URI uri = runContext.storage().putFile(file);
+        time("storage.upload.duration", start);
+        count("storage.upload.bytes", length);
+
+        return uri;
+    }
+
+    void emit() {
+        counters.forEach((name, value) -> runContext.metric(Counter.of(name, value.sum(), tags)));
+        timers.forEach((name, totals) -> {
+            runContext.metric(Timer.of(name, Duration.ofNanos(totals.sum.sum()), tags));
+            runContext.metric(Timer.of(name + ".max", Duration.ofNanos(totals.max.get()), tags));
+            runContext.metric(Counter.of(name + ".count", totals.count.sum(), tags));
+        });
+    }
+
+    private static final class TimerTotals {
+        private final LongAdder sum = new LongAdder();
+        private final LongAdder count = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+        private void add(long nanos) {
+            sum.add(nanos);
+            count.increment();
+            max.accumulate(nanos);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.kestra.plugin.weaviate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.kestra.core.models.annotations.Example;
+import io.kestra.core.models.annotations.Plugin;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.RunnableTask;
+import io.kestra.core.runners.RunContext;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.weaviate.client.WeaviateClient;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.v1.schema.model.Tenant;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@SuperBuilder
+@ToString
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@Schema(
+    title = "Change the activity status of Weaviate tenants",
+    description = "Sets tenants of a multi-tenant class HOT (loaded, readable and writable) or COLD (unloaded from memory, not queryable), e.g. to offload idle customers and reactivate them on demand."
+)
+@Plugin(
+    examples = {
+        @Example(
+            title = "Offload the tenants of inactive customers.",
+            full = true,
+            code = """
+                id: weaviate_offload_tenants
+                namespace: company.team
+
+                tasks:
+                  - id: offload
+                    type: io.kestra.plugin.weaviate.TenantUpdate
+                    url: https://demo-cluster-id.weaviate.network
+                    apiKey: "{{ secret('WEAVIATE_API_KEY') }}"
+                    className: Documents
+                    tenants:
+                      - customer-a
+                      - customer-b
+                    activityStatus: COLD
+                """
+        )
+    }
+)
+public class TenantUpdate extends WeaviateConnection implements RunnableTask<TenantUpdate.Output> {
+    private static final int TENANTS_PER_REQUEST = 100;
+
+    @Schema(
+        title = "Multi-tenant class name"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<String> className;
+
+    @Schema(
+        title = "Tenants to update"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<List<String>> tenants;
+
+    @Schema(
+        title = "New activity status"
+    )
+    @NotNull
+    @PluginProperty(group = "main")
+    private Property<ActivityStatus> activityStatus;
+
+    @Override
+    public TenantUpdate.Output run(RunContext runContext) throws Exception {
+        try (SharedClient.Lease lease = connect(runContext)) {
+            return run(runContext, lease.getClient());
+        }
+    }
+
+    private TenantUpdate.Output run(RunContext runContext, WeaviateClient client) throws Exception {
+        String renderedClassName = runContext.render(className).as(String.class).orElseThrow();
+        List<String> renderedTenants = runContext.render(tenants).asList(String.class);
+        ActivityStatus renderedActivityStatus = runContext.render(activityStatus).as(ActivityStatus.class).orElseThrow();
+
+        for (int from = 0; from < renderedTenants.size(); from += TENANTS_PER_REQUEST) {
+            Tenant[] chunk = renderedTenants.subList(from, Math.min(from + TENANTS_PER_REQUEST, renderedTenants.size())).stream()
+                .map(name -> Tenant.builder().name(name).activityStatus(renderedActivityStatus.name()).build())
+                .toArray(Tenant[]::new);
+
+            Result<Boolean> result = client.schema()
+                .tenantsUpdater()
+                .withClassName(renderedClassName)
+                .withTenants(chunk)
+                .run();
+
+            if (result.hasErrors()) {
+                String message = result.getError().getMessages().stream()
+                    .map(WeaviateErrorMessage::getMessage)
+                    .collect(Collectors.joining(", "));
+
+                throw new IOException(message);
+            }
+        }
+
+        runContext.logger().info("Set {} tenant(s) of class '{}' {}", renderedTenants.size(), renderedClassName, renderedActivityStatus);
+
+        return Output.builder()
+            .updatedCount(renderedTenants.size())
+            .build();
+    }
+
+    public enum ActivityStatus {
+        HOT,
+        COLD
+    }
+
+    @Getter
+    @Builder
+    public static class Output implements io.kestra.core.models.tasks.Output {
+
+        @Schema(
+            title = "Number of tenants updated"
+        )
+        private long updatedCount;
+    }
+}
@@ -0,0 +1,97 @@
+package io.kestra.plugin.weaviate;
+
+import java.util.List;
+
+/**
+ * Conversion of user supplied vectors to the {@code Float[]} expected by the Weaviate client models.
+ */
+final class Vectors {
+    private Vectors() {
+    }
+
+    /**
+     * Converts a vector read from ION/JSON or given inline to a {@code Float[]}, in a single pass and without an intermediate collection.
+     *
+     * @param value a list or array of numbers, or a JSON-like {@code "[0.1, 0.2]"} string
+     * @return the vector, or {@code null} if {@code value} is null
+     */
+    static Float[] toVector(Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof Float[] floats) {
+            return floats;
+        }
+
+        if (value instanceof float[] floats) {
+            Float[] vector = new Float[floats.length];
+            for (int i = 0; i < floats.length; i++) {
+                vector[i] = floats[i];
+            }
+            return vector;
+        }
+
+        if (value instanceof double[] doubles) {
+            Float[] vector = new Float[doubles.length];
+            for (int i = 0; i < doubles.length; i++) {
+                vector[i] = (float) doubles[i];
+            }
+            return vector;
+        }
+
+        if (value instanceof Object[] array) {
+            Float[] vector = new Float[array.length];
+            for (int i = 0; i < array.length; i++) {
+                vector[i] = toFloat(array[i]);
+            }
+            return vector;
+        }
+
+        if (value instanceof List<?> list) {
+            Float[] vector = new Float[list.size()];
+            int i = 0;
+            for (Object item : list) {
+                vector[i++] = toFloat(item);
+            }
+            return vector;
+        }
+
+        if (value instanceof String text) {
+            return parse(text);
+        }
+
+        throw new IllegalArgumentException("Invalid vector, expected a list of numbers but got " + value.getClass().getSimpleName());
+    }
+
+    private static Float[] parse(String text) {
+        String trimmed = text.trim();
+        if (trimmed.startsWith("[") && trimmed.endsWith("]")) {
+            trimmed = trimmed.substring(1, trimmed.length() - 1).trim();
+        }
+
+        if (trimmed.isEmpty()) {
+            return new Float[0];
+        }
+
+        String[] items = trimmed.split(",");
+        Float[] vector = new Float[items.length];
+        for (int i = 0; i < items.length; i++) {
+            vector[i] = Float.parseFloat(items[i].trim());
+        }
+
+        return vector;
+    }
+
+    private static Float toFloat(Object item) {
+        if (item instanceof Number number) {
+            return number.floatValue();
+        }
+
+        if (item instanceof String text) {
+            return Float.parseFloat(text.trim());
+        }
+
+        throw new IllegalArgumentException("Invalid vector component, expected a number but got " + item);
+    }
+}
@@ -1,6 +1,16 @@
 package io.kestra.plugin.weaviate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.property.Property;
@@ -10,7 +20,6 @@ import io.kestra.core.runners.RunContext;
 import io.weaviate.client.Config;
 import io.weaviate.client.WeaviateAuthClient;
 import io.weaviate.client.WeaviateClient;
-import io.weaviate.client.v1.auth.exception.AuthException;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
@@ -20,27 +29,228 @@ import lombok.experimental.SuperBuilder;
 @Getter
 @NoArgsConstructor
 public abstract class WeaviateConnection extends Task implements WeaviateConnectionInterface {
+    /**
+     * Clients are shared across task executions of the worker, so each connection builds its client once.
+     * Clients evicted for size or idle for longer than the TTL are released once the tasks using them are done;
+     * the remaining ones are evicted when the worker shuts down.
+     */
+    private static final ExpiringCache<ClientKey, SharedClient> CLIENTS = new ExpiringCache<>(32, Duration.ofMinutes(10), true, SharedClient::evict);
+    /**
+     * Evicted HTTP clients are shut down: unlike close(), shutdown() does not block the cache until their in-flight
+     * responses are read, it lets them complete and then frees the selector thread and connections.
+     */
+    private static final ExpiringCache<Optional<Duration>, HttpClient> HTTP_CLIENTS = new ExpiringCache<>(8, Duration.ofMinutes(10), true, HttpClient::shutdown);
+    private static final int DEFAULT_TIMEOUT_SECONDS = 60;
+    private static final int DEFAULT_GRPC_PORT = 50051;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(WeaviateConnection::closeClients, "weaviate-clients-shutdown"));
+    }
+
     private String url;
 
     private Property<String> apiKey;
 
     private Property<Map<String, String>> headers;
 
-    protected WeaviateClient connect(RunContext runContext) throws AuthException, IllegalVariableEvaluationException {
-        String renderedUrl = runContext.render(url);
+    private Property<Duration> connectTimeout;
+
+    private Property<Duration> connectionRequestTimeout;
+
+    private Property<Duration> readTimeout;
+
+    @Builder.Default
+    private Property<Transport> transport = Property.ofValue(Transport.HTTP);
+
+    private Property<String> grpcHost;
+
+    /**
+     * Leases the shared client of this task connection; close the lease once the task is done with the client.
+     */
+    protected SharedClient.Lease connect(RunContext runContext) throws Exception {
+        return connect(runContext, runContext.render(url), apiKey, headers, grpcHost);
+    }
+
+    /**
+     * Connects to another cluster than the task one, e.g. the target of a copy, with this task timeouts and transport.
+     * Without {@code grpcHost}, gRPC goes to the default port of the URL host.
+     */
+    protected SharedClient.Lease connect(
+        RunContext runContext,
+        String renderedUrl,
+        Property<String> apiKey,
+        Property<Map<String, String>> headers,
+        Property<String> grpcHost
+    ) throws Exception {
+        String renderedApiKey = apiKey == null ? null : runContext.render(apiKey).as(String.class).orElse(null);
+        ClientKey key = clientKey(runContext, renderedUrl, renderedApiKey, headers, grpcHost);
+
+        while (true) {
+            SharedClient client = CLIENTS.get(
+                key,
+                () -> {
+                    Config config = config(key);
+                    return new SharedClient(renderedApiKey == null ? new WeaviateClient(config) : WeaviateAuthClient.apiKey(config, renderedApiKey));
+                }
+            );
+
+            // an evicted client is already out of the cache, so the next attempt builds a new one
+            SharedClient.Lease lease = client.acquire();
+            if (lease != null) {
+                return lease;
+            }
+        }
+    }
+
+    /**
+     * Builds the client configuration of this task connection without connecting.
+     */
+    Config config(RunContext runContext) throws IllegalVariableEvaluationException {
+        return config(runContext, runContext.render(url), apiKey, headers, grpcHost);
+    }
+
+    /**
+     * Builds the client configuration of another cluster, as {@link #connect(RunContext, String, Property, Property, Property)}
+     * would connect to it, without connecting.
+     */
+    Config config(
+        RunContext runContext,
+        String renderedUrl,
+        Property<String> apiKey,
+        Property<Map<String, String>> headers,
+        Property<String> grpcHost
+    ) throws IllegalVariableEvaluationException {
+        String renderedApiKey = apiKey == null ? null : runContext.render(apiKey).as(String.class).orElse(null);
+
+        return config(clientKey(runContext, renderedUrl, renderedApiKey, headers, grpcHost));
+    }
+
+    private ClientKey clientKey(
+        RunContext runContext,
+        String renderedUrl,
+        String renderedApiKey,
+        Property<Map<String, String>> headers,
+        Property<String> grpcHost
+    ) throws IllegalVariableEvaluationException {
         int schemeSeparatorIdx = renderedUrl.indexOf("://");
         String scheme = schemeSeparatorIdx == -1 ? "https" : renderedUrl.substring(0, schemeSeparatorIdx);
+        String host = renderedUrl.substring(schemeSeparatorIdx == -1 ? 0 : schemeSeparatorIdx + 3);
         @SuppressWarnings({ "unchecked", "rawtypes" })
-        Config config = new Config(
+        Map<String, String> renderedHeaders = runContext.render(headers).asMap(String.class, String.class);
+        String renderedGrpcHost = null;
+        if (runContext.render(transport).as(Transport.class).orElse(Transport.HTTP) == Transport.GRPC) {
+            renderedGrpcHost = runContext.render(grpcHost).as(String.class)
+                .orElseGet(() -> host.replaceFirst(":\\d+$", "") + ":" + DEFAULT_GRPC_PORT);
+        }
+
+        return new ClientKey(
             scheme,
-            renderedUrl.substring(schemeSeparatorIdx == -1 ? 0 : schemeSeparatorIdx + 3),
-            runContext.render(headers).asMap(String.class, String.class)
+            host,
+            Map.copyOf(renderedHeaders),
+            renderedApiKey == null ? null : sha256(renderedApiKey),
+            timeoutSeconds(runContext, connectTimeout),
+            timeoutSeconds(runContext, connectionRequestTimeout),
+            timeoutSeconds(runContext, readTimeout),
+            renderedGrpcHost
+        );
+    }
+
+    private static Config config(ClientKey key) {
+        Config config = new Config(key.scheme(), key.host(), key.headers(), key.connectTimeout(), key.connectionRequestTimeout(), key.readTimeout());
+        if (key.grpcHost() != null) {
+            config.setGRPCHost(key.grpcHost());
+            config.setGRPCSecured("https".equals(key.scheme()));
+        }
+
+        return config;
+    }
+
+    /**
+     * Builds a raw HTTP request to the GraphQL endpoint, for the cases where the response must be read as a stream
+     * rather than parsed at once by the client.
+     */
+    protected HttpRequest.Builder graphQLRequest(RunContext runContext) throws IllegalVariableEvaluationException {
+        String renderedUrl = runContext.render(url);
+        if (!renderedUrl.contains("://")) {
+            renderedUrl = "https://" + renderedUrl;
+        }
+        if (renderedUrl.endsWith("/")) {
+            renderedUrl = renderedUrl.substring(0, renderedUrl.length() - 1);
+        }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(renderedUrl + "/v1/graphql"))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json");
+
+        runContext.render(headers).asMap(String.class, String.class).forEach((name, value) -> builder.header((String) name, (String) value));
+
+        if (apiKey != null) {
+            builder.header("Authorization", "Bearer " + runContext.render(apiKey).as(String.class).orElse(null));
+        }
+
+        runContext.render(readTimeout).as(Duration.class).ifPresent(builder::timeout);
+
+        return builder;
+    }
+
+    /**
+     * Returns a shared HTTP client for the requests built with {@link #graphQLRequest(RunContext)}.
+     */
+    protected HttpClient httpClient(RunContext runContext) throws Exception {
+        Optional<Duration> renderedConnectTimeout = runContext.render(connectTimeout).as(Duration.class);
+
+        return HTTP_CLIENTS.get(
+            renderedConnectTimeout,
+            () -> {
+                HttpClient.Builder builder = HttpClient.newBuilder();
+                renderedConnectTimeout.ifPresent(builder::connectTimeout);
+                return builder.build();
+            }
         );
+    }
 
-        if (apiKey == null) {
-            return new WeaviateClient(config);
+    /**
+     * Hashes the URL, headers and API key, so responses cached for one cluster or credential are never served to another.
+     */
+    protected String connectionHash(RunContext runContext) throws IllegalVariableEvaluationException {
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Map<String, String> renderedHeaders = new TreeMap<>(runContext.render(headers).asMap(String.class, String.class));
+        String renderedApiKey = apiKey == null ? null : runContext.render(apiKey).as(String.class).orElse(null);
+
+        return sha256(runContext.render(url) + "\n" + renderedHeaders + "\n" + renderedApiKey);
+    }
+
+    private static int timeoutSeconds(RunContext runContext, Property<Duration> timeout) throws IllegalVariableEvaluationException {
+        return runContext.render(timeout).as(Duration.class)
+            .map(duration -> (int) Math.max(1, duration.toSeconds()))
+            .orElse(DEFAULT_TIMEOUT_SECONDS);
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(String.valueOf(value).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
+    }
+
+    private static void closeClients() {
+        CLIENTS.clear().forEach(SharedClient::evict);
+        HTTP_CLIENTS.clear().forEach(HttpClient::shutdown);
+    }
 
-        return WeaviateAuthClient.apiKey(config, runContext.render(apiKey).as(String.class).orElse(null));
+    /**
+     * Identifies a client by everything that changes how it connects. The API key is only kept as a hash.
+     */
+    private record ClientKey(
+        String scheme,
+        String host,
+        Map<String, String> headers,
+        String apiKeyHash,
+        int connectTimeout,
+        int connectionRequestTimeout,
+        int readTimeout,
+        String grpcHost
+    ) {
     }
 }
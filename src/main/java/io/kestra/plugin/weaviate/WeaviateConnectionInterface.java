@@ -1,5 +1,6 @@
 package io.kestra.plugin.weaviate;
 
+import java.time.Duration;
 import java.util.Map;
 
 import io.kestra.core.models.annotations.PluginProperty;
@@ -30,4 +31,44 @@ public interface WeaviateConnectionInterface {
     )
     @PluginProperty(group = "advanced")
     Property<Map<String, String>> getHeaders();
+
+    @Schema(
+        title = "Set the connection timeout",
+        description = "Maximum time to establish the TCP/TLS connection. Defaults to the client default of 60 seconds; applied with a one-second granularity."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Duration> getConnectTimeout();
+
+    @Schema(
+        title = "Set the connection pool timeout",
+        description = "Maximum time to wait for a free connection from the client connection pool, e.g. when many batch requests run concurrently. Defaults to 60 seconds."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Duration> getConnectionRequestTimeout();
+
+    @Schema(
+        title = "Set the read timeout",
+        description = "Maximum inactivity while sending a request or waiting for its response. Raise it for large batch loads, lower it for latency-sensitive lookups. Defaults to 60 seconds."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Duration> getReadTimeout();
+
+    @Schema(
+        title = "Select the transport used for batch imports",
+        description = "GRPC sends batch imports over Weaviate's gRPC API (Weaviate 1.23+), with vectors encoded as packed binary instead of JSON. Schema, query and delete requests always go over HTTP."
+    )
+    @PluginProperty(group = "advanced")
+    Property<Transport> getTransport();
+
+    @Schema(
+        title = "Set the gRPC endpoint",
+        description = "Host and port of the gRPC API, used with the GRPC transport. Defaults to the `url` host on port 50051; Weaviate Cloud exposes it as `grpc-<cluster host>:443`. The connection is secured when `url` uses https."
+    )
+    @PluginProperty(dynamic = true, group = "advanced")
+    Property<String> getGrpcHost();
+
+    enum Transport {
+        HTTP,
+        GRPC
+    }
 }
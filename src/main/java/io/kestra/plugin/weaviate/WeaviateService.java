@@ -0,0 +1,127 @@
+package io.kestra.plugin.weaviate;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import io.kestra.core.models.tasks.common.FetchOutput;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.serializers.FileSerde;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.v1.graphql.model.GraphQLError;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+
+/**
+ * Helpers shared by the tasks building typed GraphQL requests.
+ */
+final class WeaviateService {
+    private WeaviateService() {
+    }
+
+    /**
+     * Builds the selection of a {@code Get} request: the given properties plus an {@code _additional} block.
+     */
+    static Field[] fields(List<String> properties, List<String> additional) {
+        List<Field> fields = new ArrayList<>();
+        properties.forEach(property -> fields.add(Field.builder().name(property).build()));
+
+        if (!additional.isEmpty()) {
+            fields.add(
+                Field.builder()
+                    .name("_additional")
+                    .fields(additional.stream().map(name -> Field.builder().name(name).build()).toArray(Field[]::new))
+                    .build()
+            );
+        }
+
+        return fields.toArray(Field[]::new);
+    }
+
+    /**
+     * Returns the rows of a typed GraphQL response, e.g. {@code data.Get.<className>}, or throws if the request failed.
+     */
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Object>> rows(Result<GraphQLResponse> result, String operation, String className) throws IOException {
+        if (result.hasErrors() || result.getResult().getErrors() != null) {
+            String message = Optional.ofNullable(result.getError())
+                .map(
+                    weaviateError -> weaviateError.getMessages().stream()
+                        .map(WeaviateErrorMessage::getMessage)
+                        .collect(Collectors.joining(", "))
+                )
+                .orElseGet(
+                    () -> Arrays.stream(result.getResult().getErrors())
+                        .map(GraphQLError::getMessage)
+                        .collect(Collectors.joining(", "))
+                );
+
+            throw new IOException(message);
+        }
+
+        var data = (Map<String, Map<String, List<Map<String, Object>>>>) result.getResult().getData();
+        if (data == null || data.get(operation) == null || data.get(operation).get(className) == null) {
+            return Collections.emptyList();
+        }
+
+        return data.get(operation).get(className);
+    }
+
+    /**
+     * Returns the object id of a row holding an {@code _additional { id }} block.
+     */
+    @SuppressWarnings("unchecked")
+    static String id(Map<String, Object> row) {
+        Object additional = row.get("_additional");
+        if (additional instanceof Map<?, ?> map) {
+            return (String) ((Map<String, Object>) map).get("id");
+        }
+
+        return null;
+    }
+
+    /**
+     * Materializes rows the way the {@code fetchType} asks: inline, first row only, or stored as an ION file.
+     */
+    static FetchOutput fetchOutput(RunContext runContext, FetchType fetchType, List<Map<String, Object>> rows) throws IOException {
+        FetchOutput.FetchOutputBuilder outputBuilder = FetchOutput.builder();
+        return switch (fetchType) {
+            case FETCH_ONE -> outputBuilder
+                .size(rows.isEmpty() ? 0L : 1L)
+                .row(rows.isEmpty() ? null : rows.getFirst())
+                .build();
+            case FETCH -> outputBuilder
+                .size((long) rows.size())
+                .rows(new ArrayList<>(rows))
+                .build();
+            case STORE -> outputBuilder
+                .size((long) rows.size())
+                .uri(store(runContext, rows))
+                .build();
+            default -> outputBuilder.build();
+        };
+    }
+
+    private static URI store(RunContext runContext, List<Map<String, Object>> rows) throws IOException {
+        File tempFile = runContext.workingDir().createTempFile(".ion").toFile();
+        try (OutputStream output = new FileOutputStream(tempFile)) {
+            for (Map<String, Object> row : rows) {
+                FileSerde.write(output, row);
+            }
+        }
+
+        return runContext.storage().putFile(tempFile);
+    }
+}
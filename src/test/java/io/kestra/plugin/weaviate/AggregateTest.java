@@ -0,0 +1,88 @@
+package io.kestra.plugin.weaviate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchOutput;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class AggregateTest extends WeaviateTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    public void testCountPerGroup() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(
+                List.of(
+                    Map.of("title", "apple", "category", "fruit"),
+                    Map.of("title", "pear", "category", "fruit"),
+                    Map.of("title", "car", "category", "vehicle")
+                )
+            )
+            .build()
+            .run(runContext);
+
+        FetchOutput output = Aggregate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .groupBy(Property.ofValue("category"))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getSize(), is(2L));
+
+        Map<Object, Object> counts = output.getRows().stream()
+            .map(Map.class::cast)
+            .collect(Collectors.toMap(
+                row -> ((Map) row.get("groupedBy")).get("value"),
+                row -> ((Number) ((Map) row.get("meta")).get("count")).longValue()
+            ));
+        assertThat(counts, is(Map.of("fruit", 2L, "vehicle", 1L)));
+    }
+
+    @Test
+    public void testCountWithFilter() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(
+                List.of(
+                    Map.of("title", "apple", "category", "fruit"),
+                    Map.of("title", "car", "category", "vehicle")
+                )
+            )
+            .build()
+            .run(runContext);
+
+        FetchOutput output = Aggregate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .metrics(Property.ofValue(Map.of("title", List.of("count"))))
+            .where(Property.ofValue(Filter.builder().operator(Filter.Operator.EQUAL).path(List.of("category")).value("fruit").build()))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .build()
+            .run(runContext);
+
+        assertThat(((Number) ((Map<String, Object>) output.getRow().get("meta")).get("count")).longValue(), is(1L));
+        assertThat(((Number) ((Map<String, Object>) output.getRow().get("title")).get("count")).longValue(), is(1L));
+    }
+}
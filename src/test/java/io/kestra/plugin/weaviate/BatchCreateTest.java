@@ -3,26 +3,37 @@ package io.kestra.plugin.weaviate;
 import java.io.FileInputStream;
 import java.net.URI;
 import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import io.kestra.core.models.executions.AbstractMetricEntry;
+import io.kestra.core.models.executions.metrics.Timer;
 import io.kestra.core.models.property.Property;
-import io.kestra.core.models.tasks.VoidOutput;
 import io.kestra.core.models.tasks.common.FetchOutput;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
 import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.storages.kv.KVMetadata;
+import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.kestra.core.tenant.TenantService;
+import io.kestra.core.utils.IdUtils;
 
+import io.weaviate.client.v1.data.model.WeaviateObject;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 public class BatchCreateTest extends WeaviateTest {
     @Inject
@@ -44,14 +55,7 @@ public class BatchCreateTest extends WeaviateTest {
             .build()
             .run(runContext);
 
-        String query = """
-            {
-              Get {
-                %s {
-                    title
-                }
-              }
-            }""".formatted(CLASS_NAME);
+        String query = getQuery("title");
 
         FetchOutput output = Query.builder().fetchType(Property.ofValue(FetchType.STORE)).url(URL).query(query).build().run(runContext);
 
@@ -75,21 +79,18 @@ public class BatchCreateTest extends WeaviateTest {
         );
 
         RunContext runContext = runContextFactory.of(Map.of("uri", uri.toString()));
-        VoidOutput batchOutput = BatchCreate.builder()
+        BatchCreate.Output batchOutput = BatchCreate.builder()
             .url(URL)
             .className(Property.ofValue(CLASS_NAME))
             .objects("{{uri}}")
             .build()
             .run(runContext);
 
-        String query = """
-            {
-              Get {
-                %s {
-                    title
-                }
-              }
-            }""".formatted(CLASS_NAME);
+        assertThat(batchOutput.getCreatedCount(), is(2L));
+        assertThat(batchOutput.getFailedCount(), is(0L));
+        assertThat(batchOutput.getFailedObjects(), nullValue());
+
+        String query = getQuery("title");
 
         FetchOutput output = Query.builder().fetchType(Property.ofValue(FetchType.STORE)).url(URL).query(query).build().run(runContext);
 
@@ -100,4 +101,209 @@ public class BatchCreateTest extends WeaviateTest {
         List<Map> maps = readObjectsFromStream(resource.openStream());
         assertThat(actual.containsAll(maps) && maps.containsAll(actual), is(true));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBatchCreateInChunks() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        List<Map<String, Object>> objectsToCreate = List.of(
+            Map.of("title", "first"),
+            Map.of("title", "second"),
+            Map.of("title", "third")
+        );
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(objectsToCreate)
+            .batchSize(Property.ofValue(2))
+            .concurrency(Property.ofValue(2))
+            .build()
+            .run(runContext);
+
+        String query = getQuery("title");
+
+        FetchOutput output = Query.builder().fetchType(Property.ofValue(FetchType.FETCH)).url(URL).query(query).build().run(runContext);
+
+        assertThat(output.getSize(), is(3L));
+    }
+
+    @Test
+    public void testBatchCreateWithRejectedObjects() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(Property.ofValue(Map.of("title", List.of("text"))))
+            .build()
+            .run(runContext);
+
+        BatchCreate.Output batchOutput = BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "valid"), Map.of("title", 42)))
+            .maxRetries(Property.ofValue(1))
+            .retryInitialDelay(Property.ofValue(Duration.ofMillis(10)))
+            .build()
+            .run(runContext);
+
+        assertThat(batchOutput.getCreatedCount(), is(1L));
+        assertThat(batchOutput.getRetriedCount(), is(1L));
+        assertThat(batchOutput.getFailedCount(), is(1L));
+        assertThat(batchOutput.getFailedObjects(), notNullValue());
+
+        List<Map> failed = readObjectsFromStream(runContext.storage().getFile(batchOutput.getFailedObjects()));
+        assertThat(failed.size(), is(1));
+        assertThat(failed.getFirst().get("properties"), is(Map.of("title", 42)));
+    }
+
+    @Test
+    public void testBatchCreateIsIdempotentWithDerivedIds() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        List<Map<String, Object>> objectsToCreate = List.of(
+            Map.of("key", "a", "title", "first"),
+            Map.of("key", "b", "title", "second")
+        );
+
+        for (int i = 0; i < 2; i++) {
+            BatchCreate.builder()
+                .url(URL)
+                .className(Property.ofValue(CLASS_NAME))
+                .objects(objectsToCreate)
+                .idStrategy(Property.ofValue(BatchCreate.IdStrategy.KEY_PROPERTIES))
+                .idProperties(Property.ofValue(List.of("key")))
+                .build()
+                .run(runContext);
+        }
+
+        String query = getQuery("title");
+
+        FetchOutput output = Query.builder().fetchType(Property.ofValue(FetchType.FETCH)).url(URL).query(query).build().run(runContext);
+
+        assertThat(output.getSize(), is(2L));
+    }
+
+    @Test
+    public void testBatchCreateWithVectors() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "with vector", "embedding", List.of(0.1, 0.2, 0.3))))
+            .vectorProperty(Property.ofValue("embedding"))
+            .build()
+            .run(runContext);
+
+        String query = getQuery("title _additional { vector }");
+
+        FetchOutput output = Query.builder().fetchType(Property.ofValue(FetchType.FETCH_ONE)).url(URL).query(query).build().run(runContext);
+
+        assertThat(output.getRow().get("title"), is("with vector"));
+        assertThat(output.getRow().containsKey("embedding"), is(false));
+        assertThat(((List<?>) ((Map<?, ?>) output.getRow().get("_additional")).get("vector")).size(), is(3));
+    }
+
+    @Test
+    public void testBatchCreateResumesFromCheckpoint() throws Exception {
+        RunContext runContext = runContextFactory.of(
+            Map.of("flow", Map.of("id", "batch_create", "namespace", "io.kestra.weaviate", "tenantId", TenantService.MAIN_TENANT))
+        );
+
+        String checkpointKey = "weaviate_checkpoint_" + IdUtils.create();
+        runContext.namespaceKv(runContext.flowInfo().namespace())
+            .put(checkpointKey, new KVValueAndMetadata(new KVMetadata(null, (Duration) null), 1L));
+
+        BatchCreate.Output batchOutput = BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "already loaded"), Map.of("title", "remaining")))
+            .batchSize(Property.ofValue(1))
+            .checkpointKey(Property.ofValue(checkpointKey))
+            .build()
+            .run(runContext);
+
+        assertThat(batchOutput.getCreatedCount(), is(1L));
+        assertThat(runContext.namespaceKv(runContext.flowInfo().namespace()).getValue(checkpointKey).isPresent(), is(false));
+
+        String query = getQuery("title");
+
+        FetchOutput output = Query.builder().fetchType(Property.ofValue(FetchType.FETCH_ONE)).url(URL).query(query).build().run(runContext);
+
+        assertThat(output.getRow().get("title"), is("remaining"));
+    }
+
+    @Test
+    public void testBatchCreateFansOutToTenants() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        createMultiTenantClass(runContext, List.of("tenantA", "tenantB"));
+
+        BatchCreate.Output output = BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "first"), Map.of("title", "second")))
+            .tenants(Property.ofValue(List.of("tenantA", "tenantB")))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getCreatedCount(), is(4L));
+        assertThat(count(runContext, "tenantA"), is(2L));
+        assertThat(count(runContext, "tenantB"), is(2L));
+    }
+
+    @Test
+    public void testCheckpointStopsBeforeDeadLetteredChunk() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(Property.ofValue(Map.of("title", List.of("text"))))
+            .build()
+            .run(runContext);
+
+        List<Long> commits = new ArrayList<>();
+        BatchWriter.Summary summary;
+        try (BatchWriter writer = new BatchWriter(runContext, client(), new TaskMetrics(runContext, CLASS_NAME), 1, 0, Duration.ZERO)) {
+            writer.onCommit(commits::add);
+
+            writer.write(List.of(WeaviateObject.builder().className(CLASS_NAME).properties(Map.of("title", "valid")).build()));
+            // a number in a text property is rejected by Weaviate
+            writer.write(List.of(WeaviateObject.builder().className(CLASS_NAME).properties(Map.of("title", 12)).build()));
+            writer.write(List.of(WeaviateObject.builder().className(CLASS_NAME).properties(Map.of("title", "after")).build()));
+
+            summary = writer.finish();
+        }
+
+        assertThat(summary.getCreatedCount(), is(2L));
+        assertThat(summary.getFailedCount(), is(1L));
+        assertThat(summary.getFailedObjects(), notNullValue());
+        assertThat(commits, is(List.of(1L)));
+    }
+
+    @Test
+    public void testBatchCreateMetrics() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "first"), Map.of("title", "second"), Map.of("title", "third")))
+            .batchSize(Property.ofValue(2))
+            .build()
+            .run(runContext);
+
+        Map<String, AbstractMetricEntry<?>> metrics = runContext.metrics().stream()
+            .collect(Collectors.toMap(AbstractMetricEntry::getName, Function.identity()));
+
+        assertThat(metrics.get("requests").getValue(), is(2.0));
+        assertThat(metrics.get("objects.read").getValue(), is(3.0));
+        assertThat(metrics.get("objects.created").getValue(), is(3.0));
+        assertThat(metrics.get("request.duration"), instanceOf(Timer.class));
+        assertThat(metrics.get("request.duration.max"), instanceOf(Timer.class));
+        assertThat(metrics.get("request.duration.count").getValue(), is(2.0));
+        assertThat(metrics.get("objects.created").getTags().get("className"), is(CLASS_NAME));
+    }
+}
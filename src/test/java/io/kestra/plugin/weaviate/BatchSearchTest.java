@@ -0,0 +1,73 @@
+package io.kestra.plugin.weaviate;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class BatchSearchTest extends WeaviateTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    public void testSearchesEveryVector() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(
+                List.of(
+                    Map.of("title", "north", "embedding", List.of(1.0, 0.0, 0.0)),
+                    Map.of("title", "east", "embedding", List.of(0.0, 1.0, 0.0)),
+                    Map.of("title", "up", "embedding", List.of(0.0, 0.0, 1.0))
+                )
+            )
+            .vectorProperty(Property.ofValue("embedding"))
+            .build()
+            .run(runContext);
+
+        File queries = runContext.workingDir().createTempFile(".ion").toFile();
+        try (OutputStream output = new FileOutputStream(queries)) {
+            FileSerde.write(output, Map.of("id", "a", "embedding", List.of(0.9, 0.1, 0.0)));
+            FileSerde.write(output, Map.of("id", "b", "embedding", List.of(0.1, 0.9, 0.0)));
+            FileSerde.write(output, Map.of("id", "c", "embedding", List.of(0.0, 0.1, 0.9)));
+        }
+        URI from = runContext.storage().putFile(queries);
+
+        BatchSearch.Output output = BatchSearch.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .from(Property.ofValue(from.toString()))
+            .keyField(Property.ofValue("id"))
+            .vectorField(Property.ofValue("embedding"))
+            .properties(Property.ofValue(List.of("title")))
+            .limit(Property.ofValue(1))
+            .concurrency(Property.ofValue(2))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getSearchCount(), is(3L));
+        assertThat(output.getHitCount(), is(3L));
+
+        List<Map> rows = readObjectsFromStream(runContext.storage().getFile(output.getUri()));
+        Map<Object, Object> titles = rows.stream()
+            .collect(Collectors.toMap(row -> row.get("key"), row -> ((Map) row.get("hit")).get("title")));
+        assertThat(titles, is(Map.of("a", "north", "b", "east", "c", "up")));
+    }
+}
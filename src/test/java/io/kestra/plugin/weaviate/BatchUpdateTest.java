@@ -0,0 +1,113 @@
+package io.kestra.plugin.weaviate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchOutput;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class BatchUpdateTest extends WeaviateTest {
+    private static final String QUERY = """
+        {
+          Get {
+            %s {
+              title
+              status
+              _additional {
+                id
+              }
+            }
+          }
+        }
+        """;
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    public void testMergesProperties() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "first", "status", "draft")))
+            .build()
+            .run(runContext);
+
+        String id = (String) ((Map<String, Object>) fetchOne(runContext).get("_additional")).get("id");
+
+        BatchUpdate.Output output = BatchUpdate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(
+                List.of(
+                    Map.of("id", id, "status", "published"),
+                    Map.of("id", UUID.randomUUID().toString(), "status", "published")
+                )
+            )
+            .build()
+            .run(runContext);
+
+        assertThat(output.getUpdatedCount(), is(1L));
+        assertThat(output.getMissingCount(), is(1L));
+        assertThat(output.getCreatedCount(), is(0L));
+
+        Map<String, Object> row = fetchOne(runContext);
+        assertThat(row.get("title"), is("first"));
+        assertThat(row.get("status"), is("published"));
+    }
+
+    @Test
+    public void testUpsertCreatesMissingObjects() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "existing", "status", "draft")))
+            .build()
+            .run(runContext);
+
+        BatchUpdate.Output output = BatchUpdate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("uuid", UUID.randomUUID().toString(), "title", "new", "status", "published")))
+            .idProperty(Property.ofValue("uuid"))
+            .upsert(Property.ofValue(true))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getCreatedCount(), is(1L));
+        assertThat(output.getMissingCount(), is(0L));
+
+        FetchOutput query = Query.builder()
+            .url(URL)
+            .query(QUERY.formatted(CLASS_NAME))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build()
+            .run(runContext);
+        assertThat(query.getSize(), is(2L));
+    }
+
+    private Map<String, Object> fetchOne(RunContext runContext) throws Exception {
+        return Query.builder()
+            .url(URL)
+            .query(QUERY.formatted(CLASS_NAME))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .build()
+            .run(runContext)
+            .getRow();
+    }
+}
@@ -0,0 +1,203 @@
+package io.kestra.plugin.weaviate;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchOutput;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+
+import io.weaviate.client.Config;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CopyTest extends WeaviateTest {
+    private static final String TARGET_CLASS_NAME = CLASS_NAME + "Copy";
+
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @AfterEach
+    public void cleanTarget() {
+        client().schema().classDeleter().withClassName(TARGET_CLASS_NAME).run();
+    }
+
+    @Test
+    public void testCopiesObjectsAndVectors() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(
+                List.of(
+                    Map.of("title", "north", "embedding", List.of(1.0, 0.0, 0.0)),
+                    Map.of("title", "east", "embedding", List.of(0.0, 1.0, 0.0)),
+                    Map.of("title", "up", "embedding", List.of(0.0, 0.0, 1.0))
+                )
+            )
+            .vectorProperty(Property.ofValue("embedding"))
+            .build()
+            .run(runContext);
+
+        Copy.Output output = Copy.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .target(Copy.Target.builder().className(Property.ofValue(TARGET_CLASS_NAME)).build())
+            .pageSize(Property.ofValue(2))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getCopiedCount(), is(3L));
+        assertThat(output.getFailedCount(), is(0L));
+
+        FetchOutput copied = Query.builder()
+            .url(URL)
+            .query("{ Get { %s { title } } }".formatted(TARGET_CLASS_NAME))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build()
+            .run(runContext);
+        assertThat(
+            copied.getRows(), containsInAnyOrder(
+                Map.entry(TARGET_CLASS_NAME, Map.of("title", "north")),
+                Map.entry(TARGET_CLASS_NAME, Map.of("title", "east")),
+                Map.entry(TARGET_CLASS_NAME, Map.of("title", "up"))
+            )
+        );
+
+        FetchOutput nearest = Search.builder()
+            .url(URL)
+            .className(Property.ofValue(TARGET_CLASS_NAME))
+            .vector(List.of(0.0, 0.9, 0.1))
+            .properties(Property.ofValue(List.of("title")))
+            .limit(Property.ofValue(1))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .build()
+            .run(runContext);
+        assertThat(nearest.getRow().get("title"), is("east"));
+    }
+
+    @Test
+    public void testTargetFallsBackToSourceSettingByField() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        Copy.CopyBuilder<?, ?> copy = Copy.builder()
+            .url(URL)
+            .headers(Property.ofValue(Map.of("X-Team", "search")))
+            .className(Property.ofValue(CLASS_NAME));
+
+        Config classNameOnly = copy
+            .target(Copy.Target.builder().className(Property.ofValue(TARGET_CLASS_NAME)).build())
+            .build()
+            .targetConfig(runContext);
+        assertThat(classNameOnly.getBaseURL(), is(URL + "/v1"));
+        assertThat(classNameOnly.getHeaders(), hasEntry("X-Team", "search"));
+
+        Config urlOnly = copy
+            .target(Copy.Target.builder().url("http://127.0.0.1:51525").build())
+            .build()
+            .targetConfig(runContext);
+        assertThat(urlOnly.getBaseURL(), is("http://127.0.0.1:51525/v1"));
+        assertThat(urlOnly.getHeaders(), hasEntry("X-Team", "search"));
+
+        Config headersOnly = copy
+            .target(Copy.Target.builder().headers(Property.ofValue(Map.of("X-Team", "analytics"))).build())
+            .build()
+            .targetConfig(runContext);
+        assertThat(headersOnly.getBaseURL(), is(URL + "/v1"));
+        assertThat(headersOnly.getHeaders(), hasEntry("X-Team", "analytics"));
+    }
+
+    @Test
+    public void testRejectsCopyOntoItself() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Copy copy = Copy.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .tenant(Property.ofValue("tenantA"))
+            .target(Copy.Target.builder().tenant(Property.ofValue("tenantA")).build())
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> copy.run(runContext));
+    }
+
+    @Test
+    public void testCopiesToTargetUrlOnly() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "north"), Map.of("title", "east")))
+            .build()
+            .run(runContext);
+
+        // another URL of the same server stands for another cluster, the class name defaults to the source one
+        Copy.Output output = Copy.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .target(Copy.Target.builder().url("http://127.0.0.1:51525").build())
+            .build()
+            .run(runContext);
+
+        assertThat(output.getCopiedCount(), is(2L));
+        assertThat(output.getFailedCount(), is(0L));
+    }
+
+    @Test
+    public void testCopiesGeoCoordinatesAndPhoneNumbers() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(Property.ofValue(Map.of("title", List.of("text"), "location", List.of("geoCoordinates"), "phone", List.of("phoneNumber"))))
+            .build()
+            .run(runContext);
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(
+                List.of(
+                    Map.of(
+                        "title", "office",
+                        "location", Map.of("latitude", 48.8566, "longitude", 2.3522),
+                        "phone", Map.of("input", "01 23 45 67 89", "defaultCountry", "FR")
+                    )
+                )
+            )
+            .build()
+            .run(runContext);
+
+        Copy.Output output = Copy.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .target(Copy.Target.builder().className(Property.ofValue(TARGET_CLASS_NAME)).build())
+            .build()
+            .run(runContext);
+
+        assertThat(output.getCopiedCount(), is(1L));
+        assertThat(output.getFailedCount(), is(0L));
+
+        FetchOutput copied = Query.builder()
+            .url(URL)
+            .query("{ Get { %s { location { latitude longitude } phone { input defaultCountry } } } }".formatted(TARGET_CLASS_NAME))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .build()
+            .run(runContext);
+        assertThat(copied.getRow().get("phone"), is(Map.of("input", "01 23 45 67 89", "defaultCountry", "FR")));
+        assertThat(((Number) ((Map<?, ?>) copied.getRow().get("location")).get("latitude")).doubleValue(), closeTo(48.8566, 0.001));
+    }
+}
@@ -1,7 +1,13 @@
 package io.kestra.plugin.weaviate;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -10,11 +16,16 @@ import io.kestra.core.models.tasks.common.FetchOutput;
 import io.kestra.core.models.tasks.common.FetchType;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.runners.RunContextFactory;
+import io.kestra.core.serializers.FileSerde;
 
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class DeleteTest extends WeaviateTest {
     @Inject
@@ -35,17 +46,7 @@ public class DeleteTest extends WeaviateTest {
 
         FetchOutput queryOutput = Query.builder()
             .url(URL)
-            .query("""
-                {
-                       Get {
-                         %s {
-                           _additional {
-                             id
-                           }
-                         }
-                       }
-                     }
-                """.formatted(CLASS_NAME))
+            .query(getQuery("_additional { id }"))
             .fetchType(Property.ofValue(FetchType.FETCH_ONE))
             .build()
             .run(runContext);
@@ -68,17 +69,7 @@ public class DeleteTest extends WeaviateTest {
 
         queryOutput = Query.builder()
             .url(URL)
-            .query("""
-                   {
-                     Get {
-                         %s {
-                           _additional {
-                             id
-                           }
-                         }
-                     }
-                   }
-                """.formatted(CLASS_NAME))
+            .query(getQuery("_additional { id }"))
             .fetchType(Property.ofValue(FetchType.FETCH))
             .build()
             .run(runContext);
@@ -141,17 +132,7 @@ public class DeleteTest extends WeaviateTest {
 
         FetchOutput queryOutput = Query.builder()
             .url(URL)
-            .query("""
-                   {
-                     Get {
-                         %s {
-                           _additional {
-                             id
-                           }
-                         }
-                     }
-                   }
-                """.formatted(CLASS_NAME))
+            .query(getQuery("_additional { id }"))
             .fetchType(Property.ofValue(FetchType.FETCH))
             .build()
             .run(runContext);
@@ -177,17 +158,7 @@ public class DeleteTest extends WeaviateTest {
 
         queryOutput = Query.builder()
             .url(URL)
-            .query("""
-                   {
-                     Get {
-                         %s {
-                           _additional {
-                             id
-                           }
-                         }
-                     }
-                   }
-                """.formatted(CLASS_NAME))
+            .query(getQuery("_additional { id }"))
             .fetchType(Property.ofValue(FetchType.FETCH))
             .build()
             .run(runContext);
@@ -246,17 +217,7 @@ public class DeleteTest extends WeaviateTest {
 
         FetchOutput queryOutput = Query.builder()
             .url(URL)
-            .query("""
-                   {
-                     Get {
-                         %s {
-                           _additional {
-                             id
-                           }
-                         }
-                     }
-                   }
-                """.formatted(CLASS_NAME))
+            .query(getQuery("_additional { id }"))
             .fetchType(Property.ofValue(FetchType.FETCH))
             .build()
             .run(runContext);
@@ -275,21 +236,269 @@ public class DeleteTest extends WeaviateTest {
 
         queryOutput = Query.builder()
             .url(URL)
-            .query("""
-                   {
-                     Get {
-                         %s {
-                           _additional {
-                             id
-                           }
-                         }
-                     }
-                   }
-                """.formatted(CLASS_NAME))
+            .query(getQuery("_additional { id }"))
             .fetchType(Property.ofValue(FetchType.FETCH))
             .build()
             .run(runContext);
 
         assertThat(queryOutput.getSize(), is(0L));
     }
+
+    @Test
+    public void testDeleteWithoutIds() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "first"), Map.of("title", "second")))
+            .build()
+            .run(runContext);
+
+        Delete.Output deleteOutput = Delete.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .includeIds(Property.ofValue(false))
+            .build()
+            .run(runContext);
+
+        assertThat(deleteOutput.getSuccess(), is(true));
+        assertThat(deleteOutput.getDeletedCount(), is(2L));
+        assertThat(deleteOutput.getIds(), nullValue());
+    }
+
+    @Test
+    public void testDeleteByIds() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "first"), Map.of("title", "second"), Map.of("title", "third")))
+            .build()
+            .run(runContext);
+
+        FetchOutput queryOutput = Query.builder()
+            .url(URL)
+            .query(getQuery("title _additional { id }"))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build()
+            .run(runContext);
+
+        List<String> ids = queryOutput.getRows().stream()
+            .map(row -> (Map<?, ?>) ((Map.Entry<?, ?>) row).getValue())
+            .filter(row -> !"third".equals(row.get("title")))
+            .map(row -> (String) ((Map<?, ?>) row.get("_additional")).get("id"))
+            .toList();
+
+        Delete.Output deleteOutput = Delete.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .objectIds(ids)
+            .batchSize(Property.ofValue(1))
+            .concurrency(Property.ofValue(2))
+            .build()
+            .run(runContext);
+
+        assertThat(deleteOutput.getSuccess(), is(true));
+        assertThat(deleteOutput.getDeletedCount(), is(2L));
+        assertThat(deleteOutput.getIds(), containsInAnyOrder(ids.toArray()));
+    }
+
+    @Test
+    public void testDeleteByIdsRejectsRowWithoutId() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        File file = runContext.workingDir().createTempFile(".ion").toFile();
+        try (OutputStream output = new FileOutputStream(file)) {
+            FileSerde.write(output, Map.of("id", "36ddd591-2dee-4e7e-a3cc-eb86d30a4303"));
+            FileSerde.write(output, Map.of("uuid", "3f2f0d6c-1c3c-4bd7-9e0f-6a0b7b4f5a21"));
+        }
+        URI uri = runContext.storage().putFile(file);
+
+        Delete task = Delete.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .objectIds(uri.toString())
+            .build();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> task.run(runContext));
+        assertThat(exception.getMessage(), containsString("uuid"));
+    }
+
+    @Test
+    public void testDeleteDryRun() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "keep"), Map.of("title", "drop"), Map.of("title", "drop")))
+            .build()
+            .run(runContext);
+
+        Delete.Output deleteOutput = Delete.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .filter(Property.ofValue(Map.of("title", "drop")))
+            .dryRun(Property.ofValue(true))
+            .includeIds(Property.ofValue(false))
+            .build()
+            .run(runContext);
+
+        assertThat(deleteOutput.isDryRun(), is(true));
+        assertThat(deleteOutput.getMatchedCount(), is(2L));
+        assertThat(deleteOutput.getDeletedCount(), is(0L));
+
+        FetchOutput queryOutput = Query.builder()
+            .url(URL)
+            .query(getQuery("title"))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build()
+            .run(runContext);
+
+        assertThat(queryOutput.getSize(), is(3L));
+    }
+
+    @Test
+    public void testDeleteByStructuredFilter() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(
+                List.of(
+                    Map.of("title", "small", "length", 10),
+                    Map.of("title", "medium", "length", 100),
+                    Map.of("title", "large", "length", 1000)
+                )
+            )
+            .build()
+            .run(runContext);
+
+        Delete.Output deleteOutput = Delete.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .where(
+                Property.ofValue(
+                    Filter.builder()
+                        .operator(Filter.Operator.OR)
+                        .operands(
+                            List.of(
+                                Filter.builder()
+                                    .operator(Filter.Operator.GREATER_THAN)
+                                    .path(List.of("length"))
+                                    .value(500)
+                                    .valueType(Filter.ValueType.NUMBER)
+                                    .build(),
+                                Filter.builder()
+                                    .operator(Filter.Operator.EQUAL)
+                                    .path(List.of("title"))
+                                    .value("small")
+                                    .build()
+                            )
+                        )
+                        .build()
+                )
+            )
+            .build()
+            .run(runContext);
+
+        assertThat(deleteOutput.getSuccess(), is(true));
+        assertThat(deleteOutput.getDeletedCount(), is(2L));
+
+        FetchOutput queryOutput = Query.builder()
+            .url(URL)
+            .query(getQuery("title"))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .build()
+            .run(runContext);
+
+        assertThat(queryOutput.getRow().get("title"), is("medium"));
+    }
+
+    @Test
+    public void testDeleteBeyondServerLimit() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        // the CI server caps a batch delete to QUERY_MAXIMUM_RESULTS = 100 objects
+        List<Map<String, Object>> objects = new ArrayList<>();
+        IntStream.range(0, 250).forEach(i -> objects.add(Map.of("title", "bulk", "position", i)));
+        objects.add(Map.of("title", "kept", "position", 250));
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(objects)
+            .build()
+            .run(runContext);
+
+        Delete.Output output = Delete.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .where(Property.ofValue(Filter.builder().operator(Filter.Operator.EQUAL).path(List.of("title")).value("bulk").build()))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getDeletedCount(), is(250L));
+        assertThat(output.getIds().size(), is(250));
+        assertThat(count(runContext, null), is(1L));
+    }
+
+    @Test
+    public void testDryRunCountsBeyondServerLimit() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        // the CI server lists at most QUERY_MAXIMUM_RESULTS = 100 objects per batch delete
+        List<Map<String, Object>> objects = new ArrayList<>();
+        IntStream.range(0, 250).forEach(i -> objects.add(Map.of("title", "bulk", "position", i)));
+        objects.add(Map.of("title", "kept", "position", 250));
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(objects)
+            .build()
+            .run(runContext);
+
+        Delete.Output output = Delete.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .where(Property.ofValue(Filter.builder().operator(Filter.Operator.EQUAL).path(List.of("title")).value("bulk").build()))
+            .dryRun(Property.ofValue(true))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getMatchedCount(), is(250L));
+        assertThat(output.getDeletedCount(), is(0L));
+        assertThat(output.getIds().size(), is(100));
+    }
+
+    @Test
+    public void testDeleteFansOutToTenants() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        createMultiTenantClass(runContext, List.of("tenantA", "tenantB", "tenantC"));
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "obsolete"), Map.of("title", "kept")))
+            .tenants(Property.ofValue(List.of("tenantA", "tenantB", "tenantC")))
+            .build()
+            .run(runContext);
+
+        Delete.Output output = Delete.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .where(Property.ofValue(Filter.builder().operator(Filter.Operator.EQUAL).path(List.of("title")).value("obsolete").build()))
+            .tenants(Property.ofValue(List.of("tenantA", "tenantB")))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getDeletedCount(), is(2L));
+        assertThat(count(runContext, "tenantA"), is(1L));
+        assertThat(count(runContext, "tenantB"), is(1L));
+        assertThat(count(runContext, "tenantC"), is(2L));
+    }
 }
@@ -0,0 +1,77 @@
+package io.kestra.plugin.weaviate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+public class ExpiringCacheTest {
+    @Test
+    public void testEvictsLeastRecentlyUsedBeyondMaximumWeight() {
+        List<String> removed = new ArrayList<>();
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, 10, String::length, Duration.ofMinutes(1), false, removed::add);
+
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        cache.getIfPresent("a");
+        cache.put("c", "cccc");
+
+        // "b" was the least recently used entry once the total weight reached 12
+        assertThat(cache.getIfPresent("b"), is(Optional.empty()));
+        assertThat(cache.getIfPresent("a"), is(Optional.of("aaaa")));
+        assertThat(cache.getIfPresent("c"), is(Optional.of("cccc")));
+        assertThat(removed, contains("bbbb"));
+
+        // replacing an entry only counts its new weight
+        cache.put("a", "aa");
+        cache.put("d", "dddd");
+        assertThat(cache.getIfPresent("a"), is(Optional.of("aa")));
+        assertThat(cache.getIfPresent("c"), is(Optional.of("cccc")));
+        assertThat(cache.getIfPresent("d"), is(Optional.of("dddd")));
+    }
+
+    @Test
+    public void testSlowLoadOnlyHoldsUpItsOwnKey() throws Exception {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, Duration.ofMinutes(1), false);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        ExpiringCache.Loader<String> slowLoader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "slow";
+        };
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> load(cache, "slow", slowLoader));
+        loading.await();
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> load(cache, "slow", slowLoader));
+
+        // another key is served while the slow load is running
+        assertThat(cache.get("fast", () -> "fast"), is("fast"));
+
+        release.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS), is("slow"));
+        assertThat(second.get(10, TimeUnit.SECONDS), is("slow"));
+        assertThat(loads.get(), is(1));
+    }
+
+    private static String load(ExpiringCache<String, String> cache, String key, ExpiringCache.Loader<String> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.kestra.plugin.weaviate;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class ExportTest extends WeaviateTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    public void testExportPagesThroughClass() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "first"), Map.of("title", "second"), Map.of("title", "third")))
+            .build()
+            .run(runContext);
+
+        Export.Output output = Export.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .properties(Property.ofValue(List.of("title")))
+            .pageSize(Property.ofValue(2))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getSize(), is(3L));
+        assertThat(output.getUri(), notNullValue());
+
+        List<Map> rows = readObjectsFromStream(runContext.storage().getFile(output.getUri()));
+        assertThat(rows.stream().map(row -> row.get("title")).toList(), containsInAnyOrder("first", "second", "third"));
+        assertThat(rows.stream().allMatch(row -> ((Map) row.get("_additional")).get("id") != null), is(true));
+    }
+}
@@ -0,0 +1,43 @@
+package io.kestra.plugin.weaviate;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.weaviate.client.v1.filters.WhereFilter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FilterTest {
+    @Test
+    public void testWholeNumbersBeyondIntRangeAreSentAsNumbers() {
+        WhereFilter small = Filter.builder().operator(Filter.Operator.EQUAL).path(List.of("year")).value(2024L).build().toWhereFilter();
+        assertThat(small.getValueInt(), is(2024));
+
+        WhereFilter epochMillis = Filter.builder()
+            .operator(Filter.Operator.GREATER_THAN)
+            .path(List.of("updatedAt"))
+            .value(1_700_000_000_000L)
+            .build()
+            .toWhereFilter();
+        assertThat(epochMillis.getValueInt(), nullValue());
+        assertThat(epochMillis.getValueNumber(), is(1.7e12));
+    }
+
+    @Test
+    public void testIntValueTypeRejectsLargeNumbersWithItsPath() {
+        Filter filter = Filter.builder()
+            .operator(Filter.Operator.EQUAL)
+            .path(List.of("externalId"))
+            .value(1_700_000_000_000L)
+            .valueType(Filter.ValueType.INT)
+            .build();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, filter::toWhereFilter);
+        assertThat(exception.getMessage(), containsString("externalId"));
+    }
+}
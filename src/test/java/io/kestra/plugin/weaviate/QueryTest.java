@@ -1,5 +1,6 @@
 package io.kestra.plugin.weaviate;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -17,18 +18,9 @@ import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class QueryTest extends WeaviateTest {
-    private static final String QUERY = """
-        {
-           Get {
-             %s {
-                 title
-             }
-           }
-         }
-        """;
-
     @Inject
     private RunContextFactory runContextFactory;
 
@@ -94,7 +86,7 @@ public class QueryTest extends WeaviateTest {
 
         FetchOutput queryOutput = Query.builder()
             .url(URL)
-            .query(QUERY.formatted(CLASS_NAME))
+            .query(getQuery("title"))
             .fetchType(Property.ofValue(FetchType.FETCH))
             .build()
             .run(runContext);
@@ -129,7 +121,7 @@ public class QueryTest extends WeaviateTest {
 
         FetchOutput queryOutput = Query.builder()
             .url(URL)
-            .query(QUERY.formatted(CLASS_NAME))
+            .query(getQuery("title"))
             .fetchType(Property.ofValue(FetchType.STORE))
             .build()
             .run(runContext);
@@ -147,4 +139,77 @@ public class QueryTest extends WeaviateTest {
             )
         );
     }
+
+    @Test
+    public void testQueryStoreStreaming() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        List<Map<String, Object>> objectsToCreate = List.of(
+            Map.of("title", "test success"),
+            Map.of("title", "test success 2")
+        );
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(objectsToCreate)
+            .build()
+            .run(runContext);
+
+        FetchOutput queryOutput = Query.builder()
+            .url(URL)
+            .query(getQuery("title"))
+            .fetchType(Property.ofValue(FetchType.STORE))
+            .streaming(Property.ofValue(true))
+            .build()
+            .run(runContext);
+
+        assertThat(queryOutput.getSize(), is(2L));
+        assertThat(queryOutput.getRows(), is(nullValue()));
+
+        var queryOutputContent = readObjectsFromStream(storageInterface.get(TenantService.MAIN_TENANT, null, queryOutput.getUri()));
+
+        assertThat(
+            queryOutputContent, containsInAnyOrder(
+                Map.of(CLASS_NAME, Map.of("title", "test success")),
+                Map.of(CLASS_NAME, Map.of("title", "test success 2"))
+            )
+        );
+    }
+
+    @Test
+    public void testQueryCache() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "cached")))
+            .build()
+            .run(runContext);
+
+        Query query = Query.builder()
+            .url(URL)
+            .query("{ Get { %s(limit: 7) { title } } }".formatted(CLASS_NAME))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .cacheTtl(Property.ofValue(Duration.ofMinutes(1)))
+            .build();
+
+        assertThat(query.run(runContext).getSize(), is(1L));
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(List.of(Map.of("title", "not cached")))
+            .build()
+            .run(runContext);
+
+        FetchOutput cachedOutput = query.run(runContext);
+        assertThat(cachedOutput.getSize(), is(1L));
+        assertThat(cachedOutput.getRows(), contains(Map.entry(CLASS_NAME, Map.of("title", "cached"))));
+
+        // the cached rows are shared by the executions hitting the cache, so they cannot be changed
+        Map<?, ?> cachedRow = (Map<?, ?>) ((Map.Entry<?, ?>) cachedOutput.getRows().getFirst()).getValue();
+        assertThrows(UnsupportedOperationException.class, cachedRow::clear);
+    }
 }
@@ -15,7 +15,11 @@ import io.weaviate.client.v1.schema.model.WeaviateClass;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class SchemaCreateTest extends WeaviateTest {
     @Inject
@@ -52,4 +56,170 @@ public class SchemaCreateTest extends WeaviateTest {
             )
         );
     }
+
+    @Test
+    public void testReconcile() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        SchemaCreate.Output created = SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(io.kestra.core.models.property.Property.ofValue(Map.of("title", List.of("text"))))
+            .reconcile(io.kestra.core.models.property.Property.ofValue(true))
+            .build()
+            .run(runContext);
+
+        assertThat(created.getCreated(), is(true));
+        assertThat(created.getAddedProperties(), contains("title"));
+
+        SchemaCreate.Output added = SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(io.kestra.core.models.property.Property.ofValue(Map.of("title", List.of("text"), "year", List.of("int"))))
+            .reconcile(io.kestra.core.models.property.Property.ofValue(true))
+            .build()
+            .run(runContext);
+
+        assertThat(added.getCreated(), is(false));
+        assertThat(added.getAddedProperties(), contains("year"));
+
+        SchemaCreate.Output unchanged = SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(io.kestra.core.models.property.Property.ofValue(Map.of("title", List.of("text"), "year", List.of("int"))))
+            .reconcile(io.kestra.core.models.property.Property.ofValue(true))
+            .build()
+            .run(runContext);
+
+        assertThat(unchanged.getCreated(), is(false));
+        assertThat(unchanged.getAddedProperties(), is(empty()));
+
+        Result<WeaviateClass> schema = client().schema().classGetter().withClassName(CLASS_NAME).run();
+        assertThat(schema.getResult().getProperties().size(), is(2));
+    }
+
+    @Test
+    public void testReconcileNormalizesNamesAndDataTypes() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(io.kestra.core.models.property.Property.ofValue(Map.of("Title", List.of("string"), "releaseYear", List.of("int"))))
+            .build()
+            .run(runContext);
+
+        // stored as "title" with the text type, and "ReleaseYear" is stored as "releaseYear"
+        SchemaCreate.Output unchanged = SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(io.kestra.core.models.property.Property.ofValue(Map.of("title", List.of("text"), "ReleaseYear", List.of("int"))))
+            .reconcile(io.kestra.core.models.property.Property.ofValue(true))
+            .build()
+            .run(runContext);
+
+        assertThat(unchanged.getAddedProperties(), is(empty()));
+
+        Result<WeaviateClass> schema = client().schema().classGetter().withClassName(CLASS_NAME).run();
+        assertThat(schema.getResult().getProperties().size(), is(2));
+    }
+
+    @Test
+    public void testIndexSettings() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(io.kestra.core.models.property.Property.ofValue(Map.of("title", List.of("text"), "sku", List.of("text"))))
+            .propertySettings(
+                io.kestra.core.models.property.Property.ofValue(
+                    Map.of(
+                        "sku",
+                        SchemaCreate.PropertySettings.builder()
+                            .tokenization(SchemaCreate.Tokenization.FIELD)
+                            .indexSearchable(false)
+                            .build()
+                    )
+                )
+            )
+            .vectorIndexType(io.kestra.core.models.property.Property.ofValue(SchemaCreate.VectorIndexType.HNSW))
+            .vectorIndex(
+                io.kestra.core.models.property.Property.ofValue(
+                    SchemaCreate.VectorIndex.builder()
+                        .distance("dot")
+                        .efConstruction(256)
+                        .maxConnections(16)
+                        .build()
+                )
+            )
+            .invertedIndex(
+                io.kestra.core.models.property.Property.ofValue(
+                    SchemaCreate.InvertedIndex.builder()
+                        .bm25B(0.5f)
+                        .bm25K1(1.5f)
+                        .indexTimestamps(true)
+                        .build()
+                )
+            )
+            .build()
+            .run(runContext);
+
+        WeaviateClass schema = client().schema().classGetter().withClassName(CLASS_NAME).run().getResult();
+
+        assertThat(schema.getVectorIndexType(), is("hnsw"));
+        assertThat(schema.getVectorIndexConfig().getDistance(), is("dot"));
+        assertThat(schema.getVectorIndexConfig().getEfConstruction(), is(256));
+        assertThat(schema.getVectorIndexConfig().getMaxConnections(), is(16));
+        assertThat(schema.getInvertedIndexConfig().getBm25().getB(), is(0.5f));
+        assertThat(schema.getInvertedIndexConfig().getIndexTimestamps(), is(true));
+
+        Property sku = schema.getProperties().stream().filter(property -> property.getName().equals("sku")).findFirst().orElseThrow();
+        assertThat(sku.getTokenization(), is(Tokenization.FIELD));
+        assertThat(sku.getIndexSearchable(), is(false));
+    }
+
+    @Test
+    public void testQuantizationSettingsRequireTheirQuantization() {
+        SchemaCreate.VectorIndex pqSegmentsOnly = SchemaCreate.VectorIndex.builder().pqSegments(96).build();
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, pqSegmentsOnly::toVectorIndexConfig);
+        assertThat(exception.getMessage(), containsString("pqSegments"));
+
+        SchemaCreate.VectorIndex rescoreWithPq = SchemaCreate.VectorIndex.builder().quantization(SchemaCreate.Quantization.PQ).rescoreLimit(20).build();
+        assertThrows(IllegalArgumentException.class, rescoreWithPq::toVectorIndexConfig);
+
+        SchemaCreate.VectorIndex trainedSq = SchemaCreate.VectorIndex.builder().quantization(SchemaCreate.Quantization.SQ).trainingLimit(10000).build();
+        assertThat(trainedSq.toVectorIndexConfig().getSq().getTrainingLimit(), is(10000));
+    }
+
+    @Test
+    public void testMultiTenancy() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        SchemaCreate.Output created = SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(io.kestra.core.models.property.Property.ofValue(Map.of("title", List.of("text"))))
+            .multiTenancy(io.kestra.core.models.property.Property.ofValue(true))
+            .tenants(io.kestra.core.models.property.Property.ofValue(List.of("tenantA")))
+            .build()
+            .run(runContext);
+
+        assertThat(created.getAddedTenants(), contains("tenantA"));
+
+        SchemaCreate.Output reconciled = SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(io.kestra.core.models.property.Property.ofValue(Map.of("title", List.of("text"))))
+            .tenants(io.kestra.core.models.property.Property.ofValue(List.of("tenantA", "tenantB")))
+            .reconcile(io.kestra.core.models.property.Property.ofValue(true))
+            .build()
+            .run(runContext);
+
+        assertThat(reconciled.getAddedTenants(), contains("tenantB"));
+
+        WeaviateClass schema = client().schema().classGetter().withClassName(CLASS_NAME).run().getResult();
+        assertThat(schema.getMultiTenancyConfig().getEnabled(), is(true));
+        assertThat(client().schema().tenantsGetter().withClassName(CLASS_NAME).run().getResult().size(), is(2));
+    }
 }
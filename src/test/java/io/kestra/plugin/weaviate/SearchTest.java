@@ -0,0 +1,88 @@
+package io.kestra.plugin.weaviate;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchOutput;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class SearchTest extends WeaviateTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    public void testNearVector() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(
+                List.of(
+                    Map.of("title", "north", "embedding", List.of(1.0, 0.0, 0.0)),
+                    Map.of("title", "east", "embedding", List.of(0.0, 1.0, 0.0)),
+                    Map.of("title", "up", "embedding", List.of(0.0, 0.0, 1.0))
+                )
+            )
+            .vectorProperty(Property.ofValue("embedding"))
+            .build()
+            .run(runContext);
+
+        FetchOutput output = Search.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .vector(List.of(0.9, 0.1, 0.0))
+            .properties(Property.ofValue(List.of("title")))
+            .limit(Property.ofValue(1))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getSize(), is(1L));
+        assertThat(output.getRow().get("title"), is("north"));
+        assertThat(((Map<String, Object>) output.getRow().get("_additional")).get("distance"), notNullValue());
+    }
+
+    @Test
+    public void testBm25WithFilter() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        BatchCreate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .objects(
+                List.of(
+                    Map.of("title", "red apple", "category", "fruit"),
+                    Map.of("title", "red car", "category", "vehicle"),
+                    Map.of("title", "green apple", "category", "fruit")
+                )
+            )
+            .build()
+            .run(runContext);
+
+        FetchOutput output = Search.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .searchType(Property.ofValue(Search.SearchType.BM25))
+            .query(Property.ofValue("red"))
+            .properties(Property.ofValue(List.of("title")))
+            .where(Property.ofValue(Filter.builder().operator(Filter.Operator.EQUAL).path(List.of("category")).value("fruit").build()))
+            .fetchType(Property.ofValue(FetchType.FETCH))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getSize(), is(1L));
+        assertThat(((Map<String, Object>) output.getRows().getFirst()).get("title"), is("red apple"));
+    }
+}
@@ -0,0 +1,51 @@
+package io.kestra.plugin.weaviate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+
+import io.weaviate.client.v1.schema.model.Tenant;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class TenantUpdateTest extends WeaviateTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    public void testSetsTenantsCold() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(Property.ofValue(Map.of("title", List.of("text"))))
+            .multiTenancy(Property.ofValue(true))
+            .tenants(Property.ofValue(List.of("tenantA", "tenantB")))
+            .build()
+            .run(runContext);
+
+        TenantUpdate.Output output = TenantUpdate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .tenants(Property.ofValue(List.of("tenantA")))
+            .activityStatus(Property.ofValue(TenantUpdate.ActivityStatus.COLD))
+            .build()
+            .run(runContext);
+
+        assertThat(output.getUpdatedCount(), is(1L));
+
+        Map<String, String> statuses = client().schema().tenantsGetter().withClassName(CLASS_NAME).run().getResult().stream()
+            .collect(Collectors.toMap(Tenant::getName, Tenant::getActivityStatus));
+        assertThat(statuses.get("tenantA"), is("COLD"));
+        assertThat(statuses.get("tenantB"), is("HOT"));
+    }
+}
@@ -0,0 +1,114 @@
+package io.kestra.plugin.weaviate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.kestra.core.models.property.Property;
+import io.kestra.core.runners.RunContext;
+import io.kestra.core.runners.RunContextFactory;
+
+import io.weaviate.client.Config;
+import jakarta.inject.Inject;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class WeaviateConnectionTest extends WeaviateTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Test
+    public void testSharesClientsOfIdenticalConnections() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        try (
+            SharedClient.Lease first = Search.builder().url(URL).apiKey(Property.ofValue("key")).build().connect(runContext);
+            SharedClient.Lease second = Search.builder().url(URL).apiKey(Property.ofValue("key")).build().connect(runContext);
+            SharedClient.Lease otherApiKey = Search.builder().url(URL).apiKey(Property.ofValue("other-key")).build().connect(runContext);
+            SharedClient.Lease otherHeaders = Search.builder()
+                .url(URL)
+                .apiKey(Property.ofValue("key"))
+                .headers(Property.ofValue(Map.of("X-Team", "search")))
+                .build()
+                .connect(runContext)
+        ) {
+            assertThat(second.getClient(), sameInstance(first.getClient()));
+            assertThat(otherApiKey.getClient(), not(sameInstance(first.getClient())));
+            assertThat(otherHeaders.getClient(), not(sameInstance(first.getClient())));
+        }
+    }
+
+    @Test
+    public void testTimeoutsReachClientConfig() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Config config = Search.builder()
+            .url(URL)
+            .connectTimeout(Property.ofValue(Duration.ofSeconds(5)))
+            .connectionRequestTimeout(Property.ofValue(Duration.ofMillis(200)))
+            .readTimeout(Property.ofValue(Duration.ofMillis(2500)))
+            .build()
+            .config(runContext);
+
+        assertThat(config.getConnectionTimeout(), is(5));
+        // rounded down to whole seconds, never below one
+        assertThat(config.getConnectionRequestTimeout(), is(1));
+        assertThat(config.getSocketTimeout(), is(2));
+
+        Config defaults = Search.builder().url(URL).build().config(runContext);
+        assertThat(defaults.getConnectionTimeout(), is(60));
+        assertThat(defaults.getConnectionRequestTimeout(), is(60));
+        assertThat(defaults.getSocketTimeout(), is(60));
+    }
+
+    @Test
+    public void testGrpcHostDefaultsToUrlHost() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        Config secured = Search.builder()
+            .url("https://demo-cluster-id.weaviate.network")
+            .transport(Property.ofValue(WeaviateConnectionInterface.Transport.GRPC))
+            .build()
+            .config(runContext);
+        assertThat(secured.getGRPCHost(), is("demo-cluster-id.weaviate.network:50051"));
+        assertThat(secured.isGRPCSecured(), is(true));
+
+        Config plain = Search.builder()
+            .url("http://localhost:8080")
+            .transport(Property.ofValue(WeaviateConnectionInterface.Transport.GRPC))
+            .build()
+            .config(runContext);
+        assertThat(plain.getGRPCHost(), is("localhost:50051"));
+        assertThat(plain.isGRPCSecured(), is(false));
+
+        Config explicit = Search.builder()
+            .url("https://demo-cluster-id.weaviate.network")
+            .transport(Property.ofValue(WeaviateConnectionInterface.Transport.GRPC))
+            .grpcHost(Property.ofValue("grpc-demo-cluster-id.weaviate.network:443"))
+            .build()
+            .config(runContext);
+        assertThat(explicit.getGRPCHost(), is("grpc-demo-cluster-id.weaviate.network:443"));
+
+        Config http = Search.builder().url("https://demo-cluster-id.weaviate.network").build().config(runContext);
+        assertThat(http.getGRPCHost(), nullValue());
+    }
+
+    @Test
+    public void testEvictedClientIsNotLeasedAnymore() {
+        SharedClient client = new SharedClient(client());
+
+        try (SharedClient.Lease lease = client.acquire()) {
+            client.evict();
+
+            // the running lease keeps its client, new tasks get another one
+            assertThat(lease.getClient(), notNullValue());
+            assertThat(client.acquire(), nullValue());
+        }
+    }
+}
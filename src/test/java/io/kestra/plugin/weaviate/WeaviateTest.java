@@ -7,6 +7,10 @@ import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 
 import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.property.Property;
+import io.kestra.core.models.tasks.common.FetchOutput;
+import io.kestra.core.models.tasks.common.FetchType;
+import io.kestra.core.runners.RunContext;
 import io.kestra.core.serializers.FileSerde;
 
 import io.weaviate.client.Config;
@@ -27,6 +31,40 @@ public abstract class WeaviateTest {
         return new WeaviateClient(new Config("http", HOST));
     }
 
+    /**
+     * Builds a GraphQL query getting the given fields of the objects of the test class.
+     */
+    protected static String getQuery(String fields) {
+        return "{ Get { %s { %s } } }".formatted(CLASS_NAME, fields);
+    }
+
+    protected void createMultiTenantClass(RunContext runContext, List<String> tenants) throws Exception {
+        SchemaCreate.builder()
+            .url(URL)
+            .className(CLASS_NAME)
+            .fields(Property.ofValue(Map.of("title", List.of("text"))))
+            .multiTenancy(Property.ofValue(true))
+            .tenants(Property.ofValue(tenants))
+            .build()
+            .run(runContext);
+    }
+
+    /**
+     * Counts the objects of the test class with an Aggregate request, in the given tenant when not null.
+     */
+    @SuppressWarnings("unchecked")
+    protected long count(RunContext runContext, String tenant) throws Exception {
+        FetchOutput output = Aggregate.builder()
+            .url(URL)
+            .className(Property.ofValue(CLASS_NAME))
+            .tenant(tenant == null ? null : Property.ofValue(tenant))
+            .fetchType(Property.ofValue(FetchType.FETCH_ONE))
+            .build()
+            .run(runContext);
+
+        return ((Number) ((Map<String, Object>) output.getRow().get("meta")).get("count")).longValue();
+    }
+
     protected List<Map> readObjectsFromStream(InputStream inputStream) throws Exception {
         try (inputStream) {
             return FileSerde.readAll(inputStream, Map.class).collectList().block();